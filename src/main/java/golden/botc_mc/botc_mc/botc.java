@@ -1,25 +1,26 @@
 package golden.botc_mc.botc_mc;
 
 import eu.pb4.polymer.resourcepack.api.PolymerResourcePackUtils;
-import golden.botc_mc.botc_mc.game.CharacterLoader;
-import golden.botc_mc.botc_mc.game.NightType;
-import golden.botc_mc.botc_mc.game.botcCharacter;
-import golden.botc_mc.botc_mc.game.Script;
+import golden.botc_mc.botc_mc.game.CharacterDataReloadListener;
+import golden.botc_mc.botc_mc.game.PlayerSessions;
 import golden.botc_mc.botc_mc.game.botcActive;
 import golden.botc_mc.botc_mc.game.botcCommands;
 import golden.botc_mc.botc_mc.game.botcConfig;
 import golden.botc_mc.botc_mc.game.botcWaiting;
+import golden.botc_mc.botc_mc.game.map.MapCatalog;
+import golden.botc_mc.botc_mc.game.map.MapCatalogReloadListener;
+import golden.botc_mc.botc_mc.game.map.MapTemplateCache;
 import golden.botc_mc.botc_mc.game.voice.VoiceRegionManager;
 import golden.botc_mc.botc_mc.game.voice.VoiceRegionService;
 import golden.botc_mc.botc_mc.game.voice.VoiceRegionTask;
 import golden.botc_mc.botc_mc.game.voice.VoicechatPlugin;
 import golden.botc_mc.botc_mc.game.voice.SvcBridge;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
-import net.minecraft.resource.Resource;
-import net.minecraft.resource.ResourceManager;
 import net.minecraft.resource.ResourceType;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -31,9 +32,7 @@ import xyz.nucleoid.plasmid.api.util.PlayerRef;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Primary mod entrypoint and game type registration for BOTC.
@@ -47,13 +46,6 @@ public class botc implements ModInitializer {
     public static final String ID = "botc-mc";
     /** Structured logger for BOTC mod operations. */
     public static final Logger LOGGER = LogManager.getLogger(ID);
-    /**
-     * Loaded script definitions keyed by their resource identifier string (for example
-     * "botc-mc:scripts/trouble_brewing.json"). Populated by the resource reload listener
-     * during server startup and when datapacks are reloaded.
-     */
-    public static final Map<String, Script> scripts = new HashMap<>();
-
     private VoiceRegionTask voiceRegionTask;
     private static volatile boolean REGIONS_MATERIALIZED = false;
 
@@ -105,43 +97,31 @@ public class botc implements ModInitializer {
         botcCommands.register();
 
         // Register resource loader for characters and scripts
-        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
-            @Override
-            public Identifier getFabricId() {
-                return Identifier.of(botc.ID, "character_data_loader");
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new CharacterDataReloadListener());
+        // Register resource loader for map configs
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new MapCatalogReloadListener());
+        ServerLifecycleEvents.SERVER_STARTED.register(MapTemplateCache::preload);
+        // The reload listener drops every cached map, so bring the warm ones back once the new resources are live
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            if (success) {
+                MapTemplateCache.preloadWarm(server);
             }
+        });
 
-            @Override
-            public void reload(ResourceManager manager) {
-
-                Resource firstNight = manager.getResource(Identifier.of(
-                        "botc-mc:character_data/first_night.json")).orElse(null);
-                CharacterLoader.registerNightOrder(NightType.FIRST, firstNight);
-
-                Resource otherNight = manager.getResource(Identifier.of(
-                        "botc-mc:character_data/other_night.json")).orElse(null);
-                CharacterLoader.registerNightOrder(NightType.OTHER, otherNight);
-
-                Resource baseCharacters = manager.getResource(Identifier.of("botc-mc:character_data/base_characters" +
-                        ".json")).orElse(null);
-//                baseCharacters = null;
-                CharacterLoader.registerBaseCharacters(baseCharacters);
-                if (baseCharacters != null) {
-                    // Log some botcCharacter data to verify loading
-                    LOGGER.debug(new botcCharacter("washerwoman"));
-                    LOGGER.debug(new botcCharacter("pithag"));
-                } else {
-                    LOGGER.error("Error reading base_characters.json");
-                }
-
-                for (Identifier id :
-                        manager.findResources("scripts", path -> path.toString().endsWith(".json")).keySet()) {
-                    LOGGER.info("Loading {}...", String.valueOf(id));
-                    manager.getResource(id).ifPresent(script -> scripts.put(String.valueOf(id), Script.fromResource(script)));
+        // Drop per-player state when players leave, and games whose world is gone without a clean close
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> PlayerSessions.evict(handler.player.getUuid()));
+        ServerWorldEvents.UNLOAD.register((server, world) -> {
+            for (botcActive game : List.copyOf(activeGames)) {
+                if (game.getWorld() == world) {
+                    LOGGER.warn("Releasing a game whose world {} unloaded without closing it", world.getRegistryKey().getValue());
+                    game.release();
                 }
-                LOGGER.info("Loaded {} scripts", scripts.size());
             }
         });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            MapCatalog.stopWatching();
+            MapTemplateCache.clear();
+        });
 
         // Initialize voice region system
         VoiceRegionManager voiceRegionManager = new VoiceRegionManager(VoiceRegionService.botcConfigRoot().resolve("voice/global.json"));
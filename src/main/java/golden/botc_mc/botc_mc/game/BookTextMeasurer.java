@@ -0,0 +1,205 @@
+package golden.botc_mc.botc_mc.game;
+
+import net.minecraft.text.Style;
+import net.minecraft.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Measures how many lines styled text takes up on a written book page, using glyph advance widths in pixels.
+ * Widths come from the vanilla default font and the icon glyphs in our {@code font/default.json}. Word widths are
+ * memoised per style, since the same character names and ability words recur across every script.
+ */
+final class BookTextMeasurer {
+
+    /**
+     * Width of the text area of a book page in pixels.
+     */
+    static final int PAGE_WIDTH = 114;
+
+    private static final int DEFAULT_ADVANCE = 6;
+    private static final int WIDE_ADVANCE = 9;
+    private static final byte[] ASCII_ADVANCE = new byte[128];
+    private static final int MAX_CACHED_WORDS = 4096;
+    private static final Map<WordKey, Integer> WORD_WIDTHS = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<WordKey, Integer> eldest) {
+            return size() > MAX_CACHED_WORDS;
+        }
+    };
+    private static final char ICON_START = '\uEB07';
+    // Advances of the token_atlas.png glyphs: 12px cells scaled to a height of 10, plus one pixel of spacing
+    private static final byte[] ICON_ADVANCE = {
+            9, 10, 10, 9, 10, 9, 10, 10, 10, 10, 10, 10, 9, 10, 10, 10, 10, 10, 9, 10, 11, 10, 10, 9,
+            10, 10, 10, 10, 10, 10, 9, 10, 9, 9, 9, 10, 9, 10, 10, 10, 9, 9, 9, 9, 10, 10, 9
+    };
+
+    static {
+        for (int c = 32; c < 127; c++) {
+            ASCII_ADVANCE[c] = DEFAULT_ADVANCE;
+        }
+        setAdvance(" ", 4);
+        setAdvance("!',.:;|i", 2);
+        setAdvance("`l", 3);
+        setAdvance("\"I[]t", 4);
+        setAdvance("(){}<>fk", 5);
+        setAdvance("@~", 7);
+    }
+
+    private BookTextMeasurer() {
+    }
+
+    private static void setAdvance(String chars, int advance) {
+        for (int i = 0; i < chars.length(); i++) {
+            ASCII_ADVANCE[chars.charAt(i)] = (byte) advance;
+        }
+    }
+
+    /**
+     * Get the horizontal advance of a glyph, including the spacing after it.
+     * @param codePoint The character to measure.
+     * @param bold Whether the character is bold, which adds one pixel.
+     * @return The advance in pixels.
+     */
+    static int advance(int codePoint, boolean bold) {
+        int advance;
+        if (codePoint < ASCII_ADVANCE.length) {
+            advance = ASCII_ADVANCE[codePoint];
+        } else if (codePoint >= ICON_START && codePoint < ICON_START + ICON_ADVANCE.length) {
+            advance = ICON_ADVANCE[codePoint - ICON_START];
+        } else if (codePoint == '\u00a0') {
+            advance = ASCII_ADVANCE[' '];
+        } else if (codePoint >= 0x2E80) {
+            // CJK and other full-width scripts fall back to the unifont glyphs
+            advance = WIDE_ADVANCE;
+        } else {
+            advance = DEFAULT_ADVANCE;
+        }
+        return advance > 0 && bold ? advance + 1 : advance;
+    }
+
+    /**
+     * Get the width of a word, without the space after it.
+     * @param word The word, containing no spaces or line breaks.
+     * @param bold Whether the word is bold, which changes every advance.
+     * @return The width in pixels.
+     */
+    static int wordWidth(String word, boolean bold) {
+        WordKey key = new WordKey(word, bold);
+        synchronized (WORD_WIDTHS) {
+            Integer cached = WORD_WIDTHS.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        int width = 0;
+        for (int i = 0; i < word.length(); ) {
+            int codePoint = word.codePointAt(i);
+            i += Character.charCount(codePoint);
+            width += advance(codePoint, bold);
+        }
+        synchronized (WORD_WIDTHS) {
+            WORD_WIDTHS.put(key, width);
+        }
+        return width;
+    }
+
+    /**
+     * Count the lines a text takes up on a book page, wrapping at spaces like the client does.
+     * Every hard line takes at least one line, and words wider than the page are broken.
+     * @param text The text to measure.
+     * @return The number of lines, or 0 if the text is empty.
+     */
+    static int countLines(Text text) {
+        LineCounter counter = new LineCounter();
+        text.visit((style, string) -> {
+            counter.accept(string, style.isBold());
+            return Optional.empty();
+        }, Style.EMPTY);
+        return counter.finish();
+    }
+
+    private static final class LineCounter {
+        private int lines = 0;
+        private int lineWidth = 0;
+        private int wordWidth = 0;
+        private int wraps = 0;
+        private boolean empty = true;
+
+        private void accept(String string, boolean bold) {
+            int start = 0;
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c == '\n' || c == ' ') {
+                    addWord(string, start, i, bold);
+                    empty = false;
+                    if (c == '\n') {
+                        endLine();
+                    } else {
+                        endWord();
+                        lineWidth += advance(c, bold);
+                    }
+                    start = i + 1;
+                }
+            }
+            addWord(string, start, string.length(), bold);
+        }
+
+        private void addWord(String string, int start, int end, boolean bold) {
+            if (start == end) {
+                return;
+            }
+            empty = false;
+            int width = wordWidth(string.substring(start, end), bold);
+            if (wordWidth + width <= PAGE_WIDTH) {
+                wordWidth += width;
+                return;
+            }
+            // The word alone is wider than the page, so it is broken across lines
+            for (int i = start; i < end; ) {
+                int codePoint = string.codePointAt(i);
+                i += Character.charCount(codePoint);
+                int advance = advance(codePoint, bold);
+                if (wordWidth + advance > PAGE_WIDTH) {
+                    if (lineWidth > 0) {
+                        wraps++;
+                        lineWidth = 0;
+                    }
+                    wraps++;
+                    wordWidth = 0;
+                }
+                wordWidth += advance;
+            }
+        }
+
+        private void endWord() {
+            if (lineWidth > 0 && lineWidth + wordWidth > PAGE_WIDTH) {
+                wraps++;
+                lineWidth = wordWidth;
+            } else {
+                lineWidth += wordWidth;
+            }
+            wordWidth = 0;
+        }
+
+        private void endLine() {
+            endWord();
+            lines += 1 + wraps;
+            lineWidth = 0;
+            wraps = 0;
+        }
+
+        private int finish() {
+            if (empty) {
+                return 0;
+            }
+            endLine();
+            return lines;
+        }
+    }
+
+    private record WordKey(String word, boolean bold) {
+    }
+}
@@ -0,0 +1,111 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.botc;
+import golden.botc_mc.botc_mc.game.gui.TokenItemStack;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Reloads base characters, night orders and scripts from data packs.
+ * Every file is read in parallel on the prepare executor; the apply stage only publishes the results.
+ * Scripts are indexed by meta and character ids only, and parsed in full on first use by {@link ScriptRegistry}.
+ * The character search index is built from the results and the character name translations.
+ */
+public class CharacterDataReloadListener implements IdentifiableResourceReloadListener {
+
+    private static final Identifier FIRST_NIGHT = Identifier.of(botc.ID, "character_data/first_night.json");
+    private static final Identifier OTHER_NIGHT = Identifier.of(botc.ID, "character_data/other_night.json");
+    private static final Identifier BASE_CHARACTERS = Identifier.of(botc.ID, "character_data/base_characters.json");
+
+    @Override
+    public Identifier getFabricId() {
+        return Identifier.of(botc.ID, "character_data_loader");
+    }
+
+    @Override
+    public CompletableFuture<Void> reload(Synchronizer synchronizer, ResourceManager manager,
+                                          Executor prepareExecutor, Executor applyExecutor) {
+        long start = System.nanoTime();
+        CompletableFuture<List<String>> firstNight = CompletableFuture.supplyAsync(() ->
+                CharacterLoader.parseNightOrder(NightType.FIRST, manager.getResource(FIRST_NIGHT).orElse(null)),
+                prepareExecutor);
+        CompletableFuture<List<String>> otherNight = CompletableFuture.supplyAsync(() ->
+                CharacterLoader.parseNightOrder(NightType.OTHER, manager.getResource(OTHER_NIGHT).orElse(null)),
+                prepareExecutor);
+        CompletableFuture<botcCharacter[]> baseCharacters = CompletableFuture.supplyAsync(() ->
+                CharacterLoader.parseBaseCharacters(manager.getResource(BASE_CHARACTERS).orElse(null)),
+                prepareExecutor);
+        CompletableFuture<Map<String, ScriptRegistry.Summary>> scripts = CompletableFuture.supplyAsync(() ->
+                manager.findResources("scripts", path -> path.toString().endsWith(".json")), prepareExecutor)
+                .thenCompose(resources -> indexScripts(resources, prepareExecutor));
+        CompletableFuture<Map<Identifier, Resource>> lang = CompletableFuture.supplyAsync(() ->
+                manager.findResources("lang", path -> path.getPath().endsWith(".json")), prepareExecutor);
+        CompletableFuture<CharacterSearchIndex> searchIndex = CompletableFuture.allOf(baseCharacters, scripts, lang)
+                .thenApplyAsync(v -> CharacterSearchIndex.build(baseCharacters.join(), scripts.join().values(),
+                        lang.join()), prepareExecutor);
+
+        return CompletableFuture.allOf(firstNight, otherNight, baseCharacters, scripts, searchIndex)
+                .thenApply(v -> new Prepared(firstNight.join(), otherNight.join(), baseCharacters.join(),
+                        scripts.join(), searchIndex.join(), System.nanoTime() - start))
+                .thenCompose(synchronizer::whenPrepared)
+                .thenAcceptAsync(this::apply, applyExecutor);
+    }
+
+    /**
+     * Index each script resource as its own task, so large script libraries are spread across the executor.
+     * @param resources The script resources keyed by identifier.
+     * @param executor The executor to read on.
+     * @return A future of the successfully read script summaries keyed by identifier string.
+     */
+    private static CompletableFuture<Map<String, ScriptRegistry.Summary>> indexScripts(
+            Map<Identifier, Resource> resources, Executor executor) {
+        List<CompletableFuture<ScriptRegistry.Summary>> indexed = new ArrayList<>(resources.size());
+        resources.forEach((id, resource) -> indexed.add(CompletableFuture.supplyAsync(() ->
+                ScriptRegistry.readSummary(id.toString(), resource), executor)));
+        return CompletableFuture.allOf(indexed.toArray(CompletableFuture[]::new)).thenApply(v -> {
+            Map<String, ScriptRegistry.Summary> scripts = new HashMap<>(indexed.size());
+            for (CompletableFuture<ScriptRegistry.Summary> future : indexed) {
+                ScriptRegistry.Summary summary = future.join();
+                if (summary != null) {
+                    scripts.put(summary.id(), summary);
+                }
+            }
+            return scripts;
+        });
+    }
+
+    private void apply(Prepared prepared) {
+        long start = System.nanoTime();
+        CharacterLoader.setNightOrder(NightType.FIRST, prepared.firstNight());
+        CharacterLoader.setNightOrder(NightType.OTHER, prepared.otherNight());
+        CharacterLoader.setBaseCharacters(prepared.baseCharacters());
+        ScriptRegistry.publish(prepared.scripts());
+        CharacterSearchIndex.publish(prepared.searchIndex());
+        ScriptBookGenerator.invalidateCache();
+        TokenItemStack.invalidateCache();
+        long applyNanos = System.nanoTime() - start;
+        botc.LOGGER.info("Loaded {} characters and {} scripts (prepare {} ms, apply {} ms)",
+                prepared.baseCharacters().length, ScriptRegistry.all().size(),
+                prepared.prepareNanos() / 1_000_000, applyNanos / 1_000_000);
+    }
+
+    /**
+     * Everything parsed during the prepare stage, handed to the apply stage.
+     */
+    private record Prepared(List<String> firstNight,
+                            List<String> otherNight,
+                            botcCharacter[] baseCharacters,
+                            Map<String, ScriptRegistry.Summary> scripts,
+                            CharacterSearchIndex searchIndex,
+                            long prepareNanos) {
+    }
+}
@@ -2,22 +2,36 @@ package golden.botc_mc.botc_mc.game;
 
 import com.google.gson.Gson;
 import golden.botc_mc.botc_mc.botc;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.resource.Resource;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CharacterLoader {
 
+    /**
+     * Maximum number of unknown ids to keep interned between reloads.
+     */
+    private static final int MAX_INTERNED_UNKNOWN = 256;
+    private static final Gson GSON = new Gson();
+
     /**
      * The base botcCharacters loaded from the JSON resource.
      */
-    public static botcCharacter[] baseCharacters;
-    public static List<String> firstNightOrder;
-    public static List<String> otherNightOrder;
+    public static volatile botcCharacter[] baseCharacters;
+    private static volatile Registry registry = Registry.of(new botcCharacter[0]);
+    public static volatile List<String> firstNightOrder;
+    public static volatile List<String> otherNightOrder;
+    private static volatile Set<String> firstNightIds = Set.of();
+    private static volatile Set<String> otherNightIds = Set.of();
 
     /**
      * Constructs a Character from a partial Character, filling in missing fields from the baseCharacters array.
@@ -55,58 +69,201 @@ public class CharacterLoader {
     }
 
     /**
-     * Finds a Character by its id from the baseCharacters array. Returns a new Character with only the id set if not found.
+     * Finds a Character by its id from the base characters. Returns a placeholder Character with only the id set if
+     * not found; placeholders are interned so repeated lookups of the same unknown id return the same instance.
      * This should not be directly used if loading from a script.
      * @param id The id of the character to find.
      * @return The Character with the matching id.
      */
-    static botcCharacter findCharacterById(String id) {
-        for (botcCharacter character : baseCharacters) {
-            if (character.id().equals(id)) {
-                return character;
-            }
+    public static botcCharacter findCharacterById(String id) {
+        Registry current = registry;
+        int ordinal = current.ordinals.getInt(id);
+        if (ordinal >= 0) {
+            return current.characters[ordinal];
         }
-        return new botcCharacter(id, null,
+        botcCharacter interned = current.unknown.get(id);
+        if (interned != null) {
+            return interned;
+        }
+        botcCharacter placeholder = new botcCharacter(id, null,
                 Team.TOWNSFOLK, null, null, null, null,
                 0, null,
                 0, null, null, null,
                 false, null, null
         );
+        if (current.unknown.size() >= MAX_INTERNED_UNKNOWN) {
+            return placeholder;
+        }
+        botcCharacter existing = current.unknown.putIfAbsent(id, placeholder);
+        return existing != null ? existing : placeholder;
+    }
+
+    /**
+     * Get the ordinal of a base character, its position in the base character array.
+     * Ordinals are stable until the next reload and can be used to index arrays and bitsets.
+     * @param id The id of the character.
+     * @return The ordinal of the character, or -1 if it is not a base character.
+     */
+    public static int ordinalOf(String id) {
+        return registry.ordinals.getInt(id);
+    }
+
+    /**
+     * Get the base character with the given ordinal.
+     * @param ordinal The ordinal of the character, as returned by {@link #ordinalOf(String)}.
+     * @return The base character.
+     */
+    public static botcCharacter byOrdinal(int ordinal) {
+        return registry.characters[ordinal];
     }
 
     /**
-     * Registers base characters by loading and parsing the JSON resource.
+     * Get the number of base characters, which is also the exclusive upper bound of their ordinals.
+     * @return The number of base characters.
+     */
+    public static int size() {
+        return registry.characters.length;
+    }
+
+    /**
+     * Get all base characters belonging to a team.
+     * @param team The team to filter characters by.
+     * @return An immutable list of base characters in the team, in base character order.
+     */
+    public static List<botcCharacter> getCharactersByTeam(Team team) {
+        return registry.byTeam.get(team.ordinal());
+    }
+
+    /**
+     * Parses base characters from the JSON resource. Safe to call off-thread; nothing is published.
      * @param resource The resource containing the base_characters.json data.
+     * @return The parsed characters, or an empty array if the resource is missing or invalid.
      */
-    public static void registerBaseCharacters(Resource resource) {
+    static botcCharacter[] parseBaseCharacters(Resource resource) {
+        if (resource == null) {
+            botc.LOGGER.error("Error reading base_characters.json");
+            return new botcCharacter[0];
+        }
         try (InputStream stream = resource.getInputStream()) {
             BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
 
-            Gson gson = new Gson();
-            baseCharacters = gson.fromJson(reader, botcCharacter[].class);
-            botc.LOGGER.info("Successfully parsed base_characters.json, size: {} characters", baseCharacters.length);
+            botcCharacter[] characters = GSON.fromJson(reader, botcCharacter[].class);
+            botc.LOGGER.info("Successfully parsed base_characters.json, size: {} characters", characters.length);
+            return characters;
         } catch (Exception e) {
             botc.LOGGER.error("Error parsing base_characters.json", e);
-            baseCharacters = new botcCharacter[0];
+            return new botcCharacter[0];
         }
     }
 
-    public static void registerNightOrder(NightType night, Resource resource) {
+    /**
+     * Publishes the base characters and rebuilds the id index.
+     * @param characters The parsed base characters.
+     */
+    static void setBaseCharacters(botcCharacter[] characters) {
+        registry = Registry.of(characters);
+        baseCharacters = characters;
+    }
+
+    /**
+     * Parses a night order from the JSON resource. Safe to call off-thread; nothing is published.
+     * @param night Which night the order is for.
+     * @param resource The resource containing the night order.
+     * @return The parsed night order, or null if the resource is missing or invalid.
+     */
+    @SuppressWarnings("unchecked")
+    static List<String> parseNightOrder(NightType night, Resource resource) {
+        if (resource == null) {
+            botc.LOGGER.error("Error reading {}_night.json", night);
+            return null;
+        }
         try (InputStream stream = resource.getInputStream()) {
             BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
 
-            Gson gson = new Gson();
-            List<String> nightOrder = gson.fromJson(reader, List.class);
-            if (night == NightType.FIRST) {
-                firstNightOrder = nightOrder;
-                botc.LOGGER.info("Loaded first_night.json: {}", firstNightOrder);
-            } else {
-                otherNightOrder = nightOrder;
-                botc.LOGGER.info("Loaded other_night.json: {}", otherNightOrder);
-            }
+            List<String> nightOrder = List.copyOf(GSON.fromJson(reader, List.class));
+            botc.LOGGER.info("Loaded {}_night.json: {} entries", night, nightOrder.size());
+            botc.LOGGER.debug("{} night order: {}", night, nightOrder);
+            return nightOrder;
         } catch (Exception e) {
-            botc.LOGGER.error("Error parsing base_characters.json", e);
+            botc.LOGGER.error("Error parsing {}_night.json", night, e);
+            return null;
         }
     }
 
+    /**
+     * Publishes a night order. A null order keeps the previously loaded one.
+     * @param night Which night the order is for.
+     * @param nightOrder The parsed night order.
+     */
+    static void setNightOrder(NightType night, List<String> nightOrder) {
+        if (nightOrder == null) {
+            return;
+        }
+        if (night == NightType.FIRST) {
+            firstNightOrder = nightOrder;
+            firstNightIds = Set.copyOf(nightOrder);
+        } else {
+            otherNightOrder = nightOrder;
+            otherNightIds = Set.copyOf(nightOrder);
+        }
+    }
+
+    /**
+     * Check whether a character appears in the base night order for the given night.
+     * @param night The night to check.
+     * @param id The id of the character.
+     * @return True if the character acts during that night.
+     */
+    public static boolean actsOnNight(NightType night, String id) {
+        return id != null && (night == NightType.FIRST ? firstNightIds : otherNightIds).contains(id);
+    }
+
+    /**
+     * Creates a partial Character with only the id set, to be completed by {@link #fromPartialCharacter}.
+     * Used when parsing scripts before the base characters they refer to have been published.
+     * @param id The id of the character.
+     * @return A Character with every other field unset.
+     */
+    static botcCharacter partialCharacter(String id) {
+        return new botcCharacter(id, null,
+                null, null, null, null, null,
+                0, null,
+                0, null, null, null,
+                false, null, null
+        );
+    }
+
+    /**
+     * Hash index over the base characters, rebuilt and swapped in as a whole on each reload.
+     * @param characters The base characters, indexed by ordinal.
+     * @param ordinals Map from character id to ordinal, returning -1 for unknown ids.
+     * @param byTeam Base characters grouped by team, indexed by team ordinal.
+     * @param unknown Interned placeholders for ids that are not base characters.
+     */
+    private record Registry(botcCharacter[] characters,
+                            Object2IntOpenHashMap<String> ordinals,
+                            List<List<botcCharacter>> byTeam,
+                            Map<String, botcCharacter> unknown) {
+
+        static Registry of(botcCharacter[] characters) {
+            Object2IntOpenHashMap<String> ordinals = new Object2IntOpenHashMap<>(characters.length);
+            ordinals.defaultReturnValue(-1);
+            List<List<botcCharacter>> teams = new ArrayList<>();
+            for (int t = 0; t < Team.values().length; t++) {
+                teams.add(new ArrayList<>());
+            }
+            for (int i = 0; i < characters.length; i++) {
+                botcCharacter character = characters[i];
+                if (character == null || character.id() == null || ordinals.containsKey(character.id())) {
+                    continue;
+                }
+                ordinals.put(character.id(), i);
+                if (character.team() != null) {
+                    teams.get(character.team().ordinal()).add(character);
+                }
+            }
+            return new Registry(characters, ordinals, teams.stream().map(List::copyOf).toList(),
+                    new ConcurrentHashMap<>());
+        }
+    }
 }
@@ -0,0 +1,317 @@
+package golden.botc_mc.botc_mc.game;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import golden.botc_mc.botc_mc.botc;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.resource.Resource;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Search index over every known character id, by id and by localised name.
+ * Built during resource reload from the base characters, the characters of every script and the
+ * {@code data/botc/lang/*.json} translations, then swapped in as a whole. Queries are matched by name or word prefix
+ * first, falling back to trigram similarity to forgive typos.
+ */
+public final class CharacterSearchIndex {
+    private static final String DEFAULT_LOCALE = "en_us";
+    private static final String LANG_NAMESPACE = "botc";
+    private static final String NAME_KEY_PREFIX = "character.botc.";
+    private static final String NAME_KEY_SUFFIX = ".name";
+    /**
+     * Maximum number of suggestions returned per query.
+     */
+    public static final int MAX_RESULTS = 20;
+    /**
+     * Minimum share of the query's trigrams a name must contain to be a fuzzy match.
+     */
+    private static final double MIN_FUZZY_SCORE = 0.4;
+
+    private static volatile CharacterSearchIndex current = new CharacterSearchIndex(List.of(), Map.of());
+
+    // Every known character id, in base character order then script order
+    private final List<String> ids;
+    private final Map<String, LocaleIndex> locales;
+
+    private CharacterSearchIndex(List<String> ids, Map<String, LocaleIndex> locales) {
+        this.ids = ids;
+        this.locales = locales;
+    }
+
+    /**
+     * Build the index. Safe to call off-thread; nothing is published.
+     * @param baseCharacters The parsed base characters.
+     * @param scripts The script summaries, whose character ids are included.
+     * @param langResources The {@code lang/*.json} resources keyed by identifier.
+     * @return The built index.
+     */
+    static CharacterSearchIndex build(botcCharacter[] baseCharacters, Collection<ScriptRegistry.Summary> scripts,
+                                      Map<Identifier, Resource> langResources) {
+        Set<String> ids = new LinkedHashSet<>();
+        Map<String, String> literalNames = new HashMap<>();
+        for (botcCharacter character : baseCharacters) {
+            if (character != null && character.id() != null) {
+                ids.add(character.id());
+                if (character.name() != null) {
+                    literalNames.put(character.id(), character.name());
+                }
+            }
+        }
+        for (ScriptRegistry.Summary script : scripts) {
+            ids.addAll(script.characterIds());
+        }
+        List<String> idList = List.copyOf(ids);
+
+        Map<String, Map<String, String>> translations = readNames(langResources);
+        Map<String, String> fallback = translations.getOrDefault(DEFAULT_LOCALE, Map.of());
+        Map<String, LocaleIndex> locales = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : translations.entrySet()) {
+            Map<String, String> names = entry.getValue();
+            locales.put(entry.getKey(), LocaleIndex.build(idList, id -> names.getOrDefault(id,
+                    fallback.getOrDefault(id, literalNames.getOrDefault(id, id)))));
+        }
+        if (!locales.containsKey(DEFAULT_LOCALE)) {
+            locales.put(DEFAULT_LOCALE, LocaleIndex.build(idList, id -> literalNames.getOrDefault(id, id)));
+        }
+        return new CharacterSearchIndex(idList, Map.copyOf(locales));
+    }
+
+    /**
+     * Publishes a built index for use by commands and GUIs.
+     * @param index The index built by {@link #build}.
+     */
+    static void publish(CharacterSearchIndex index) {
+        current = index;
+        botc.LOGGER.debug("Indexed {} characters for search in {} locales", index.ids.size(), index.locales.size());
+    }
+
+    /**
+     * Find character ids matching a query, best matches first.
+     * @param locale The language code to match names in, such as {@code en_us}.
+     * @param query The text typed so far.
+     * @param limit The maximum number of results.
+     * @return The matching character ids.
+     */
+    public static List<String> search(String locale, String query, int limit) {
+        return current.localeIndex(locale).search(query, limit);
+    }
+
+    /**
+     * Find character ids whose name, a word in their name or id starts with a query, without fuzzy matches.
+     * @param locale The language code to match names in, such as {@code en_us}.
+     * @param query The text typed so far.
+     * @return The matching character ids.
+     */
+    public static List<String> searchPrefix(String locale, String query) {
+        return current.localeIndex(locale).prefixes.search(query);
+    }
+
+    /**
+     * Get the localised name of a character, as indexed.
+     * @param locale The language code.
+     * @param id The character id.
+     * @return The name, or the id if the character is unknown.
+     */
+    public static String getName(String locale, String id) {
+        return current.localeIndex(locale).names.getOrDefault(id, id);
+    }
+
+    /**
+     * Filter items to those whose character's name, a word in its name or id starts with a query, keeping their order.
+     * Fuzzy matches are left out, so a search only shows characters the query actually names.
+     * @param items The items to filter.
+     * @param character Function giving the character id of an item.
+     * @param locale The language code to match names in.
+     * @param query The search text.
+     * @param <T> The type of the items.
+     * @return The matching items.
+     */
+    public static <T> List<T> filter(List<T> items, Function<T, String> character, String locale, String query) {
+        Set<String> matches = Set.copyOf(searchPrefix(locale, query));
+        List<T> results = new ArrayList<>();
+        for (T item : items) {
+            if (matches.contains(character.apply(item))) {
+                results.add(item);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Get the language code of a player, falling back to the default locale.
+     * @param player The player, or null for a non-player source.
+     * @return The language code.
+     */
+    public static String localeOf(ServerPlayerEntity player) {
+        if (player == null || player.getClientOptions() == null) {
+            return DEFAULT_LOCALE;
+        }
+        return player.getClientOptions().language();
+    }
+
+    /**
+     * Brigadier suggestion provider completing character ids, with the localised name as tooltip.
+     * @return The suggestion provider.
+     */
+    public static SuggestionProvider<ServerCommandSource> suggestions() {
+        return (context, builder) -> {
+            String locale = localeOf(context.getSource().getPlayer());
+            for (String id : search(locale, builder.getRemaining(), MAX_RESULTS)) {
+                builder.suggest(id, Text.literal(getName(locale, id)));
+            }
+            return builder.buildFuture();
+        };
+    }
+
+    private LocaleIndex localeIndex(String locale) {
+        LocaleIndex index = this.locales.get(locale);
+        return index != null ? index : this.locales.getOrDefault(DEFAULT_LOCALE, LocaleIndex.EMPTY);
+    }
+
+    /**
+     * Read the character names from each lang file, keyed by locale then character id.
+     */
+    private static Map<String, Map<String, String>> readNames(Map<Identifier, Resource> langResources) {
+        Map<String, Map<String, String>> translations = new HashMap<>();
+        langResources.forEach((id, resource) -> {
+            if (!id.getNamespace().equals(LANG_NAMESPACE)) {
+                return;
+            }
+            String path = id.getPath();
+            String locale = path.substring(path.lastIndexOf('/') + 1, path.length() - ".json".length());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(),
+                    StandardCharsets.UTF_8))) {
+                JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+                Map<String, String> names = translations.computeIfAbsent(locale, l -> new HashMap<>());
+                for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+                    String key = entry.getKey();
+                    if (key.startsWith(NAME_KEY_PREFIX) && key.endsWith(NAME_KEY_SUFFIX)
+                            && entry.getValue().isJsonPrimitive()) {
+                        names.put(key.substring(NAME_KEY_PREFIX.length(), key.length() - NAME_KEY_SUFFIX.length()),
+                                entry.getValue().getAsString());
+                    }
+                }
+            } catch (Exception e) {
+                botc.LOGGER.warn("Failed to read character names from {}", id, e);
+            }
+        });
+        return translations;
+    }
+
+    /**
+     * Prefix and trigram indexes over the character names of one locale.
+     * @param prefixes Prefix index over names and ids.
+     * @param names Localised name by character id.
+     * @param trigrams Positions in ids of the names containing each trigram.
+     * @param trigramCounts Number of distinct trigrams in each name, indexed like ids.
+     * @param ids The character ids, indexed by position.
+     */
+    private record LocaleIndex(PrefixIndex<String> prefixes,
+                               Map<String, String> names,
+                               Map<String, int[]> trigrams,
+                               int[] trigramCounts,
+                               List<String> ids) {
+
+        static final LocaleIndex EMPTY = build(List.of(), id -> id);
+
+        static LocaleIndex build(List<String> ids, Function<String, String> nameOf) {
+            Map<String, String> names = new HashMap<>(ids.size());
+            Map<String, IntArrayList> postings = new HashMap<>();
+            int[] trigramCounts = new int[ids.size()];
+            for (int i = 0; i < ids.size(); i++) {
+                String name = nameOf.apply(ids.get(i));
+                names.put(ids.get(i), name);
+                Set<String> nameTrigrams = trigramsOf(name);
+                trigramCounts[i] = nameTrigrams.size();
+                for (String trigram : nameTrigrams) {
+                    postings.computeIfAbsent(trigram, t -> new IntArrayList()).add(i);
+                }
+            }
+            Map<String, int[]> trigrams = new HashMap<>(postings.size());
+            postings.forEach((trigram, list) -> trigrams.put(trigram, list.toIntArray()));
+            PrefixIndex<String> prefixes = PrefixIndex.build(ids, id -> List.of(names.get(id), id));
+            return new LocaleIndex(prefixes, Map.copyOf(names), trigrams, trigramCounts, ids);
+        }
+
+        List<String> search(String query, int limit) {
+            List<String> prefixMatches = this.prefixes.search(query);
+            if (prefixMatches.size() >= limit) {
+                return prefixMatches.subList(0, limit);
+            }
+            Set<String> results = new LinkedHashSet<>(prefixMatches);
+            for (String id : fuzzySearch(query)) {
+                if (results.size() >= limit) {
+                    break;
+                }
+                results.add(id);
+            }
+            return List.copyOf(results);
+        }
+
+        /**
+         * Rank names by the Dice coefficient of their trigrams with the query's, counting shared trigrams
+         * through the posting lists so only names sharing a trigram are visited.
+         */
+        private List<String> fuzzySearch(String query) {
+            Set<String> queryTrigrams = trigramsOf(query);
+            if (queryTrigrams.isEmpty()) {
+                return List.of();
+            }
+            Int2IntOpenHashMap shared = new Int2IntOpenHashMap();
+            for (String trigram : queryTrigrams) {
+                int[] posting = this.trigrams.get(trigram);
+                if (posting != null) {
+                    for (int i : posting) {
+                        shared.addTo(i, 1);
+                    }
+                }
+            }
+            record Match(int index, double score) {}
+            List<Match> matches = new ArrayList<>();
+            for (Int2IntMap.Entry entry : shared.int2IntEntrySet()) {
+                double score = 2.0 * entry.getIntValue()
+                        / (queryTrigrams.size() + this.trigramCounts[entry.getIntKey()]);
+                if ((double) entry.getIntValue() / queryTrigrams.size() >= MIN_FUZZY_SCORE) {
+                    matches.add(new Match(entry.getIntKey(), score));
+                }
+            }
+            matches.sort((a, b) -> Double.compare(b.score(), a.score()));
+            List<String> results = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                results.add(this.ids.get(match.index()));
+            }
+            return results;
+        }
+
+        /**
+         * Get the trigrams of a name, padded so that short words and word starts still produce trigrams.
+         */
+        private static Set<String> trigramsOf(String text) {
+            String normalised = " " + PrefixIndex.normalise(text).replaceAll("[^\\p{L}\\p{N}]+", " ") + " ";
+            Set<String> trigrams = new LinkedHashSet<>();
+            for (int i = 0; i + 3 <= normalised.length(); i++) {
+                trigrams.add(normalised.substring(i, i + 3));
+            }
+            return trigrams;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.game.seat.Seat;
+import net.minecraft.scoreboard.ServerScoreboard;
+import net.minecraft.scoreboard.Team;
+import net.minecraft.server.network.ServerPlayerEntity;
+import xyz.nucleoid.plasmid.api.game.GameSpace;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scoreboard team holding the seated players of one game.
+ * <p>
+ * The team is named after the game space, so concurrent games do not share it. It is created once when the game
+ * starts and removed when it closes. Membership follows the seats: it is reconciled once per tick, when the seat
+ * manager flushes its changes, so only players whose membership actually changed are sent to clients. Rearranging
+ * seated players, as in a shuffle, sends nothing.
+ */
+public final class GameTeam implements botcSeatManager.SeatListener {
+    private static final String SCOREBOARD_TEAM_PREFIX = "botc-mc:";
+
+    private final ServerScoreboard scoreboard;
+    private final botcSeatManager seatManager;
+    private final Team team;
+
+    /**
+     * Create the team for a game and start following its seats.
+     * @param gameSpace The game space, whose id names the team.
+     * @param scoreboard The server scoreboard.
+     * @param seatManager The seats whose players are members.
+     */
+    public GameTeam(GameSpace gameSpace, ServerScoreboard scoreboard, botcSeatManager seatManager) {
+        this.scoreboard = scoreboard;
+        this.seatManager = seatManager;
+        String name = SCOREBOARD_TEAM_PREFIX + gameSpace.getMetadata().id().toUnderscoreSeparatedString();
+        Team existing = scoreboard.getTeam(name);
+        this.team = existing != null ? existing : scoreboard.addTeam(name);
+        seatManager.addListener(this);
+        this.sync();
+    }
+
+    /**
+     * Get the scoreboard team.
+     * @return The team.
+     */
+    public Team getTeam() {
+        return this.team;
+    }
+
+    /**
+     * Stop following the seats and remove the team. Called when the game closes.
+     */
+    public void close() {
+        this.seatManager.removeListener(this);
+        this.scoreboard.removeTeam(this.team);
+    }
+
+    @Override
+    public void onSeatsChanged(Set<Seat> seats) {
+        this.sync();
+    }
+
+    @Override
+    public void onSeatsRearranged() {
+        this.sync();
+    }
+
+    /**
+     * Make the team's members exactly the players in a seat.
+     */
+    private void sync() {
+        Set<String> seated = new HashSet<>();
+        for (Seat seat : this.seatManager.getPlayerSeats()) {
+            addOccupant(seat, seated);
+        }
+        for (Seat seat : this.seatManager.getStorytellers()) {
+            addOccupant(seat, seated);
+        }
+        Collection<String> members = this.team.getPlayerList();
+        for (String name : List.copyOf(members)) {
+            if (!seated.contains(name)) {
+                this.scoreboard.removeScoreHolderFromTeam(name, this.team);
+            }
+        }
+        for (String name : seated) {
+            if (!members.contains(name)) {
+                this.scoreboard.addScoreHolderToTeam(name, this.team);
+            }
+        }
+    }
+
+    private static void addOccupant(Seat seat, Set<String> names) {
+        ServerPlayerEntity player = seat.getPlayerEntity();
+        if (player != null) {
+            names.add(player.getGameProfile().getName());
+        }
+    }
+}
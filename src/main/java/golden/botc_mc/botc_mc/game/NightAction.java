@@ -83,9 +83,7 @@ public class NightAction {
             case "demoninfo":
                 return DEMONINFO;
         }
-        botcCharacter botcCharacter = script.characters().stream()
-                .filter(c -> c.id().equals(characterId))
-                .findFirst().orElse(null);
+        botcCharacter botcCharacter = script.getCharacterOnScript(characterId);
         if (botcCharacter == null) {
             return null;
         }
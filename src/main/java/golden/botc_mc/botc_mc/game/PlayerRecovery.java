@@ -0,0 +1,152 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.game.map.Map;
+import golden.botc_mc.botc_mc.game.seat.Seat;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.damage.DamageTypes;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.GameMode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Returns players to safety without a full respawn.
+ * <p>
+ * Ordinary damage is simply denied. A player who falls out of the map, detected by a Y threshold below the template
+ * or by void damage, is put back at their seat's anchor: an explicitly configured position, or otherwise the last
+ * place they stood while seated. Players without a seat or anchor fall back to the map spawn.
+ */
+public final class PlayerRecovery implements botcSeatManager.SeatListener {
+    /** Blocks below the lowest block of the map at which a player counts as fallen out. */
+    private static final int VOID_MARGIN = 8;
+    /** Ticks between samples of where seated players are standing. */
+    private static final int SAMPLE_INTERVAL = 20;
+
+    private final ServerWorld world;
+    private final SpawnLogic spawnLogic;
+    private final botcSeatManager seatManager;
+    private final double voidY;
+    // Anchors set from the map layout, which take precedence over sampled positions
+    private final java.util.Map<Seat, Vec3d> anchors = new HashMap<>();
+    // Last position each seat's player stood on the ground, with the player it was sampled from
+    private final java.util.Map<Seat, Standing> lastStanding = new HashMap<>();
+
+    private record Standing(UUID player, Vec3d pos) {}
+
+    /**
+     * Create the recovery handler for a game.
+     * @param world The game world.
+     * @param map The map, whose bounds give the void threshold.
+     * @param spawnLogic Spawn logic used when a player has no anchor.
+     * @param seatManager The seats anchors are kept for.
+     */
+    public PlayerRecovery(ServerWorld world, Map map, SpawnLogic spawnLogic, botcSeatManager seatManager) {
+        this.world = world;
+        this.spawnLogic = spawnLogic;
+        this.seatManager = seatManager;
+        this.voidY = Math.max(map.getBounds().min().getY(), world.getBottomY()) - VOID_MARGIN;
+        seatManager.addListener(this);
+    }
+
+    /**
+     * Set the anchor players of a seat are returned to.
+     * @param seat The seat.
+     * @param pos The position, or null to fall back to where the player last stood.
+     */
+    public void setAnchor(Seat seat, Vec3d pos) {
+        if (pos == null) {
+            this.anchors.remove(seat);
+        } else {
+            this.anchors.put(seat, pos);
+        }
+    }
+
+    /**
+     * Handle damage to a player.
+     * @param player The damaged player.
+     * @param source The damage source.
+     * @return True if the player was recovered, false if the damage was only denied.
+     */
+    public boolean onDamage(ServerPlayerEntity player, DamageSource source) {
+        if (source.isOf(DamageTypes.OUT_OF_WORLD)) {
+            recover(player);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check players for falling out of the map, and sample where seated players stand.
+     * @param time The world time.
+     */
+    public void tick(long time) {
+        boolean sample = time % SAMPLE_INTERVAL == 0;
+        for (ServerPlayerEntity player : this.world.getPlayers()) {
+            if (player.isSpectator()) {
+                continue;
+            }
+            if (player.getY() < this.voidY) {
+                recover(player);
+            } else if (sample && player.isOnGround()) {
+                Seat seat = this.seatManager.getSeatFromPlayer(player);
+                if (seat != null) {
+                    this.lastStanding.put(seat, new Standing(player.getUuid(), player.getPos()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Put a player back at their seat's anchor, or at the spawn if they have none.
+     * @param player The player to recover.
+     */
+    public void recover(ServerPlayerEntity player) {
+        this.spawnLogic.resetPlayer(player, player.isSpectator() ? GameMode.SPECTATOR : GameMode.ADVENTURE);
+        Seat seat = this.seatManager.getSeatFromPlayer(player);
+        Vec3d anchor = seat == null ? null : this.anchors.get(seat);
+        if (seat != null && anchor == null) {
+            Standing standing = this.lastStanding.get(seat);
+            anchor = standing != null && standing.player().equals(player.getUuid()) ? standing.pos() : null;
+        }
+        if (anchor == null) {
+            this.spawnLogic.spawnPlayer(player);
+            return;
+        }
+        player.teleport(this.world, anchor.x, anchor.y, anchor.z, Set.of(), player.getYaw(), player.getPitch(), true);
+    }
+
+    /**
+     * Stop tracking seats. Called when the game closes.
+     */
+    public void close() {
+        this.seatManager.removeListener(this);
+        this.anchors.clear();
+        this.lastStanding.clear();
+    }
+
+    @Override
+    public void onSeatsChanged(Set<Seat> seats) {
+        for (Seat seat : seats) {
+            // A new occupant has not stood anywhere yet
+            Standing standing = this.lastStanding.get(seat);
+            if (standing != null && (!seat.hasPlayerEntity()
+                    || !standing.player().equals(seat.getPlayerEntity().getUuid()))) {
+                this.lastStanding.remove(seat);
+            }
+        }
+    }
+
+    @Override
+    public void onSeatsRearranged() {
+        // Forget seats that no longer exist
+        Set<Seat> current = new HashSet<>(this.seatManager.getPlayerSeats());
+        current.addAll(this.seatManager.getStorytellers());
+        this.anchors.keySet().retainAll(current);
+        this.lastStanding.keySet().retainAll(current);
+    }
+}
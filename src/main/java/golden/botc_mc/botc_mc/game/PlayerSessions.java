@@ -0,0 +1,147 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.botc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of every piece of per-player state kept by the mod.
+ * <p>
+ * Subsystems register a {@link Store} for each collection they keep. When a player disconnects their entries are
+ * evicted from every store, and when a game closes every store drops what it kept for games. Stores made with
+ * {@link #newMap(String, int)} are also bounded, dropping their least recently added entry when full.
+ */
+public final class PlayerSessions {
+    private static final List<Store> stores = new CopyOnWriteArrayList<>();
+
+    private PlayerSessions() {}
+
+    /**
+     * A collection of per-player state.
+     */
+    public interface Store {
+        /**
+         * Get the name of the subsystem, used to group stores in the debug dump.
+         * @return The name.
+         */
+        String name();
+
+        /**
+         * Get the number of entries held.
+         * @return The number of entries.
+         */
+        int size();
+
+        /**
+         * Drop everything held for a player.
+         * @param player The UUID of the player.
+         */
+        void evict(UUID player);
+
+        /**
+         * Drop state that only lives as long as a game. Does nothing by default.
+         */
+        default void onGameClosed() {}
+    }
+
+    /**
+     * A bounded map of state keyed by player UUID, registered on creation.
+     * @param <V> The type of the state.
+     */
+    public static final class SessionMap<V> extends LinkedHashMap<UUID, V> implements Store {
+        private final String name;
+        private final int maxSize;
+
+        private SessionMap(String name, int maxSize) {
+            this.name = name;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, V> eldest) {
+            return size() > this.maxSize;
+        }
+
+        @Override
+        public String name() {
+            return this.name;
+        }
+
+        @Override
+        public void evict(UUID player) {
+            remove(player);
+        }
+    }
+
+    /**
+     * Create and register a bounded map of per-player state.
+     * @param name The subsystem name.
+     * @param maxSize The maximum number of players kept.
+     * @param <V> The type of the state.
+     * @return The map.
+     */
+    public static <V> SessionMap<V> newMap(String name, int maxSize) {
+        SessionMap<V> map = new SessionMap<>(name, maxSize);
+        register(map);
+        return map;
+    }
+
+    /**
+     * Register a store.
+     * @param store The store.
+     */
+    public static void register(Store store) {
+        stores.add(store);
+    }
+
+    /**
+     * Unregister a store, such as when the game owning it closes.
+     * @param store The store.
+     */
+    public static void unregister(Store store) {
+        stores.remove(store);
+    }
+
+    /**
+     * Evict a player from every store. Called when the player disconnects.
+     * @param player The UUID of the player.
+     */
+    public static void evict(UUID player) {
+        for (Store store : stores) {
+            try {
+                store.evict(player);
+            } catch (RuntimeException e) {
+                botc.LOGGER.warn("Failed to evict {} from {}", player, store.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Tell every store a game has closed. The game has already left the active game list, so stores holding state
+     * shared between games can check whether any remain.
+     */
+    public static void onGameClosed() {
+        for (Store store : stores) {
+            store.onGameClosed();
+        }
+    }
+
+    /**
+     * Count the entries held by each subsystem.
+     * @return Total entries and number of stores by subsystem name, sorted by name.
+     */
+    public static Map<String, int[]> counts() {
+        Map<String, int[]> counts = new TreeMap<>();
+        for (Store store : stores) {
+            int[] count = counts.computeIfAbsent(store.name(), n -> new int[2]);
+            count[0] += store.size();
+            count[1]++;
+        }
+        return counts;
+    }
+}
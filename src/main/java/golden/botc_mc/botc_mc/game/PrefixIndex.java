@@ -0,0 +1,124 @@
+package golden.botc_mc.botc_mc.game;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index over the names of a list of items.
+ * Every word of a name is indexed, so "tell" finds "Fortune Teller". Keys are kept in a sorted array and a search
+ * is a binary search followed by a scan over the matching keys only.
+ * @param <T> The type of the indexed items.
+ */
+public final class PrefixIndex<T> {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\-_']+");
+
+    private final List<T> items;
+    private final String[] keys;
+    // Position in items of the owner of each key, parallel to keys
+    private final int[] owners;
+
+    private PrefixIndex(List<T> items, String[] keys, int[] owners) {
+        this.items = items;
+        this.keys = keys;
+        this.owners = owners;
+    }
+
+    /**
+     * Build an index over the given items.
+     * @param items The items to index, in the order results should be returned.
+     * @param names Function giving the names an item can be found by.
+     * @param <T> The type of the items.
+     * @return The prefix index.
+     */
+    public static <T> PrefixIndex<T> build(List<T> items, Function<? super T, ? extends Collection<String>> names) {
+        record Entry(String key, int owner) {}
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            for (String name : names.apply(items.get(i))) {
+                if (name == null) {
+                    continue;
+                }
+                String normalised = normalise(name);
+                if (normalised.isEmpty()) {
+                    continue;
+                }
+                // The whole name, then each word from the second onwards
+                entries.add(new Entry(normalised, i));
+                String[] words = SEPARATORS.split(normalised);
+                for (int w = 1; w < words.length; w++) {
+                    if (!words[w].isEmpty()) {
+                        entries.add(new Entry(words[w], i));
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+        String[] keys = new String[entries.size()];
+        int[] owners = new int[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).key();
+            owners[i] = entries.get(i).owner();
+        }
+        return new PrefixIndex<>(List.copyOf(items), keys, owners);
+    }
+
+    /**
+     * Normalise a name or query for matching: lower case, without accents and with surrounding space trimmed.
+     * @param text The text to normalise.
+     * @return The normalised text.
+     */
+    public static String normalise(String text) {
+        String decomposed = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Find the items with a name or word in a name starting with the query.
+     * @param query The text typed by the user. An empty query matches every item.
+     * @return The matching items, each once, in index order.
+     */
+    public List<T> search(String query) {
+        String prefix = normalise(query);
+        if (prefix.isEmpty()) {
+            return this.items;
+        }
+        BitSet matches = new BitSet(this.items.size());
+        for (int i = lowerBound(prefix); i < this.keys.length && this.keys[i].startsWith(prefix); i++) {
+            matches.set(this.owners[i]);
+        }
+        List<T> results = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            results.add(this.items.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Get the number of indexed items.
+     * @return The number of items.
+     */
+    public int size() {
+        return this.items.size();
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(this.keys, prefix);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // Step back over duplicate keys
+        while (index > 0 && this.keys[index - 1].equals(prefix)) {
+            index--;
+        }
+        return index;
+    }
+}
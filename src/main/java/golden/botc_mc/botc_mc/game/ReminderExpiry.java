@@ -0,0 +1,63 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.botc;
+import golden.botc_mc.botc_mc.game.botcCharacter.ReminderToken.Lifetime;
+import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
+import golden.botc_mc.botc_mc.game.state.BotcGameState;
+
+/**
+ * Removes reminders whose lifetime has run out as the game moves between day and night.
+ * <p>
+ * Dawn is the start of a day after a night, and dusk the start of a night. Seats with expiring reminders are found
+ * through the game's {@link ReminderIndex}, and each loses all of its expired reminders in one change, so open
+ * grimoires redraw once for the transition.
+ */
+public final class ReminderExpiry {
+    private final botcSeatManager seatManager;
+    private BotcGameState previous = BotcGameState.LOBBY;
+
+    /**
+     * Create the expiry scheduler for a game.
+     * @param seatManager The seats whose reminders expire.
+     */
+    public ReminderExpiry(botcSeatManager seatManager) {
+        this.seatManager = seatManager;
+    }
+
+    /**
+     * Expire reminders for a change of game state.
+     * @param state The new state.
+     */
+    public void onStateChanged(BotcGameState state) {
+        BotcGameState from = this.previous;
+        this.previous = state;
+        if (state == BotcGameState.NIGHT && from != BotcGameState.NIGHT) {
+            this.dusk();
+        } else if (state == BotcGameState.DAY_DISCUSSION && from == BotcGameState.NIGHT) {
+            this.dawn();
+        }
+    }
+
+    private void dawn() {
+        int expired = this.expire(Lifetime.UNTIL_DAWN);
+        botc.LOGGER.debug("Dawn expired {} reminder(s)", expired);
+    }
+
+    private void dusk() {
+        int expired = this.expire(Lifetime.UNTIL_DUSK);
+        // Reminders kept through the next night now last until the end of this one
+        for (PlayerSeat seat : this.seatManager.getReminderIndex().getSeats(Lifetime.UNTIL_NEXT_NIGHT)) {
+            seat.replaceReminders(token -> token.lifetime() == Lifetime.UNTIL_NEXT_NIGHT
+                    ? token.withLifetime(Lifetime.UNTIL_DAWN) : token);
+        }
+        botc.LOGGER.debug("Dusk expired {} reminder(s)", expired);
+    }
+
+    private int expire(Lifetime lifetime) {
+        int expired = 0;
+        for (PlayerSeat seat : this.seatManager.getReminderIndex().getSeats(lifetime)) {
+            expired += seat.removeReminders(token -> token.lifetime() == lifetime).size();
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,89 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index from reminders to the seats holding them, for one game.
+ * <p>
+ * Kept up to date by each seat as reminders are added and removed, so finding the seats with a reminder does not scan
+ * every seat's tokens. Reminders are indexed both by their text and character, ignoring lifetime, and by lifetime.
+ * A seat holding the same reminder more than once is counted once per copy.
+ */
+public final class ReminderIndex implements PlayerSeat.ReminderListener {
+    private final java.util.Map<botcCharacter.ReminderToken, java.util.Map<PlayerSeat, Integer>> byTag = new LinkedHashMap<>();
+    private final java.util.Map<botcCharacter.ReminderToken.Lifetime, java.util.Map<PlayerSeat, Integer>> byLifetime =
+            new EnumMap<>(botcCharacter.ReminderToken.Lifetime.class);
+
+    /**
+     * Get the reminders held by any seat, ignoring lifetime.
+     * @return The reminders, each with a permanent lifetime, in the order they were first placed.
+     */
+    public Set<botcCharacter.ReminderToken> getReminders() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(this.byTag.keySet()));
+    }
+
+    /**
+     * Get the seats holding a reminder, whatever its lifetime.
+     * @param token The reminder.
+     * @return The seats, in the order they first received it.
+     */
+    public Set<PlayerSeat> getSeats(botcCharacter.ReminderToken token) {
+        java.util.Map<PlayerSeat, Integer> seats = this.byTag.get(tag(token));
+        return seats == null ? Set.of() : Collections.unmodifiableSet(new LinkedHashSet<>(seats.keySet()));
+    }
+
+    /**
+     * Get the seats holding any reminder with a lifetime.
+     * @param lifetime The lifetime.
+     * @return The seats, in the order they first received one.
+     */
+    public Set<PlayerSeat> getSeats(botcCharacter.ReminderToken.Lifetime lifetime) {
+        java.util.Map<PlayerSeat, Integer> seats = this.byLifetime.get(lifetime);
+        return seats == null ? Set.of() : Collections.unmodifiableSet(new LinkedHashSet<>(seats.keySet()));
+    }
+
+    /**
+     * Forget a seat that has left the game, along with its reminders.
+     * @param seat The seat.
+     */
+    public void removeSeat(PlayerSeat seat) {
+        for (botcCharacter.ReminderToken token : List.copyOf(seat.getReminders())) {
+            this.onReminderRemoved(seat, token);
+        }
+    }
+
+    @Override
+    public void onReminderAdded(PlayerSeat seat, botcCharacter.ReminderToken token) {
+        this.byTag.computeIfAbsent(tag(token), t -> new LinkedHashMap<>()).merge(seat, 1, Integer::sum);
+        this.byLifetime.computeIfAbsent(token.lifetime(), l -> new LinkedHashMap<>()).merge(seat, 1, Integer::sum);
+    }
+
+    @Override
+    public void onReminderRemoved(PlayerSeat seat, botcCharacter.ReminderToken token) {
+        decrement(this.byTag, tag(token), seat);
+        decrement(this.byLifetime, token.lifetime(), seat);
+    }
+
+    private static <K> void decrement(java.util.Map<K, java.util.Map<PlayerSeat, Integer>> index, K key, PlayerSeat seat) {
+        java.util.Map<PlayerSeat, Integer> seats = index.get(key);
+        if (seats == null) {
+            return;
+        }
+        seats.computeIfPresent(seat, (s, count) -> count > 1 ? count - 1 : null);
+        if (seats.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    // Tokens differing only by lifetime share a tag
+    private static botcCharacter.ReminderToken tag(botcCharacter.ReminderToken token) {
+        return token.withLifetime(botcCharacter.ReminderToken.Lifetime.PERMANENT);
+    }
+}
@@ -5,6 +5,7 @@ import com.google.gson.GsonBuilder;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import golden.botc_mc.botc_mc.botc;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.resource.Resource;
 import net.minecraft.text.HoverEvent;
 import net.minecraft.text.MutableText;
@@ -15,16 +16,20 @@ import net.minecraft.util.Formatting;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a script in the BOTC game, containing meta information and a list of characters.
+ * Lookups by id, team and jinx are served from an {@link Index} built from the characters when the script is
+ * constructed. The index is not part of the script's equality.
  */
-public record Script(Meta meta, List<botcCharacter> characters) {
+public final class Script {
     /**
      * Represents an empty script with no characters and default meta information.
      */
@@ -34,8 +39,29 @@ public record Script(Meta meta, List<botcCharacter> characters) {
      */
     public static final Script MISSING = null;
 
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Script.class, new ScriptDeserializer())
+            .create();
+
     // TODO: Remap baseCharacters when loading script to have updated loric and fabled characters.
 
+    // Registry id, or null if the script was not loaded through the ScriptRegistry
+    private final String id;
+    private final Meta meta;
+    private final List<botcCharacter> characters;
+    private final Index index;
+
+    public Script(Meta meta, List<botcCharacter> characters) {
+        this(null, meta, characters);
+    }
+
+    private Script(String id, Meta meta, List<botcCharacter> characters) {
+        this.id = id;
+        this.meta = meta;
+        this.characters = List.copyOf(characters);
+        this.index = new Index(meta, this.characters);
+    }
+
     public Script(String name, String author, String logo, boolean hideTitle, String background, String almanac,
                   String flavor, List<String> bootlegger, List<String> firstNight, List<String> otherNight,
                   int[] colour,
@@ -62,14 +88,11 @@ public record Script(Meta meta, List<botcCharacter> characters) {
      * @return The loaded Script object, or null if an error occurred.
      */
     public static Script fromResource(Resource resource) {
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(Script.class, new ScriptDeserializer())
-                .create();
         Script scriptData = null;
         try (var stream = resource.getInputStream()) {
             var reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
-            scriptData = gson.fromJson(reader, Script.class);
-            botc.LOGGER.info("Read script {}", scriptData.meta.name());
+            scriptData = GSON.fromJson(reader, Script.class);
+            botc.LOGGER.debug("Read script {}", scriptData.meta.name());
         } catch (Exception e) {
             botc.LOGGER.error("Error reading script", e);
         }
@@ -77,33 +100,111 @@ public record Script(Meta meta, List<botcCharacter> characters) {
     }
 
     /**
-     * Retrieve a Script by its ID from the botc scripts map.
+     * Load a Script from its JSON text.
+     * @param json The script's JSON.
+     * @return The loaded Script object, or null if an error occurred.
+     */
+    public static Script fromJson(String json) {
+        Script scriptData = null;
+        try {
+            scriptData = GSON.fromJson(json, Script.class);
+            botc.LOGGER.debug("Read script {}", scriptData.meta.name());
+        } catch (Exception e) {
+            botc.LOGGER.error("Error reading script", e);
+        }
+        return scriptData;
+    }
+
+    /**
+     * Retrieve a Script by its ID from the script registry.
      * @param scriptId The ID of the script to retrieve.
      * @return The Script object if found, otherwise null.
      */
     public static Script fromId(String scriptId) {
-        if (botc.scripts.isEmpty()) {
-            botc.LOGGER.warn("Scripts map is empty. Lookup for script '{}' will fail.", scriptId);
+        if (ScriptRegistry.isEmpty()) {
+            botc.LOGGER.warn("Script registry is empty. Lookup for script '{}' will fail.", scriptId);
             return null;
         }
-        Script scriptData = botc.scripts.get(scriptId);
+        Script scriptData = ScriptRegistry.get(scriptId);
         if (scriptData == null) {
-            scriptData = botc.scripts.get(scriptId + ".json");
-            if (scriptData == null) {
-                botc.LOGGER.error("Script with ID '{}' not found.", scriptId);
-            }
+            botc.LOGGER.error("Script with ID '{}' not found.", scriptId);
         }
-        if (scriptData == null || CharacterLoader.baseCharacters == null) {
-            botc.LOGGER.error("Script data or base characters not loaded yet, returning script data as is.");
-            return scriptData;
+        return scriptData;
+    }
+
+    /**
+     * Resolve the script's partial characters against the base characters.
+     * Called by {@link ScriptRegistry} when the script is first used; the result is not modified afterwards.
+     * @param id The registry id of the script.
+     * @return A new Script with complete characters and immutable meta lists.
+     */
+    Script resolve(String id) {
+        if (CharacterLoader.baseCharacters == null) {
+            botc.LOGGER.error("Base characters not loaded yet, returning script '{}' as is.", meta.name());
+            return this;
         }
-        for (botcCharacter character : scriptData.characters) {
-            botcCharacter fullCharacter = CharacterLoader.fromPartialCharacter(character);
-            // Replace botcCharacter in the script's botcCharacter list
-            int index = scriptData.characters.indexOf(character);
-            scriptData.characters.set(index, fullCharacter);
+        List<botcCharacter> resolved = new ArrayList<>(characters.size());
+        for (botcCharacter character : characters) {
+            resolved.add(CharacterLoader.fromPartialCharacter(character));
         }
-        return scriptData;
+        Meta resolvedMeta = new Meta(meta.id(), meta.name(), meta.author(), meta.flavor(), meta.logo(),
+                meta.hideTitle(), meta.background(), meta.almanac(),
+                meta.bootlegger() == null ? null : List.copyOf(meta.bootlegger()),
+                meta.firstNight() == null ? null : List.copyOf(meta.firstNight()),
+                meta.otherNight() == null ? null : List.copyOf(meta.otherNight()),
+                meta.colour());
+        return new Script(id, resolvedMeta, resolved);
+    }
+
+    /**
+     * Get the id the script was loaded under. Not part of the script's equality.
+     * @return The registry id, or null if the script was not loaded from the registry.
+     */
+    public String id() {
+        return this.id;
+    }
+
+    public Meta meta() {
+        return this.meta;
+    }
+
+    public List<botcCharacter> characters() {
+        return this.characters;
+    }
+
+    /**
+     * Get the lookups built for this script. Each script has its own index, so it identifies the script instance.
+     * @return The index.
+     */
+    public Index index() {
+        return this.index;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Script other)) return false;
+        return Objects.equals(this.meta, other.meta) && this.characters.equals(other.characters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.meta, this.characters);
+    }
+
+    @Override
+    public String toString() {
+        return "Script[meta=" + this.meta + ", characters=" + this.characters.size() + "]";
+    }
+
+    /**
+     * Get a botcCharacter that appears on the script by its ID, without falling back to base characters.
+     * @param id The ID of the botcCharacter to retrieve.
+     * @return The botcCharacter object if it is on the script, otherwise null.
+     */
+    public botcCharacter getCharacterOnScript(String id) {
+        int ordinal = index.ordinal(id);
+        return ordinal < 0 ? null : index.characters[ordinal];
     }
 
     /**
@@ -112,14 +213,12 @@ public record Script(Meta meta, List<botcCharacter> characters) {
      * @return The botcCharacter object if found, otherwise a base botcCharacter or botcCharacter.EMPTY.
      */
     public botcCharacter getCharacter(String id) {
-        // Try to find botcCharacter by ID
-        for (botcCharacter botcCharacter : this.characters) {
-            if (botcCharacter.id().equals(id)) {
-                return botcCharacter;
-            }
+        botcCharacter onScript = getCharacterOnScript(id);
+        if (onScript != null) {
+            return onScript;
         }
         // Find botcCharacter from all base characters as fallback
-        botcCharacter baseBotcCharacter = new botcCharacter(id);
+        botcCharacter baseBotcCharacter = CharacterLoader.findCharacterById(id);
         return switch (baseBotcCharacter.team()) {
             case FABLED, LORIC, TRAVELLER -> baseBotcCharacter;
             default -> null;
@@ -202,6 +301,21 @@ public record Script(Meta meta, List<botcCharacter> characters) {
                 : CharacterLoader.otherNightOrder);
     }
 
+    /**
+     * Check whether a character on the script acts during the given night.
+     * Equivalent to searching {@link #firstNightOrder()} or {@link #otherNightOrder()} for the character.
+     * @param night The night to check.
+     * @param id The ID of the botcCharacter.
+     * @return True if the character is on the script and appears in the script's night order.
+     */
+    public boolean actsOnNight(NightType night, String id) {
+        if (index.ordinal(id) < 0) {
+            return false;
+        }
+        Set<String> nightIds = night == NightType.FIRST ? index.firstNightIds : index.otherNightIds;
+        return nightIds != null ? nightIds.contains(id) : CharacterLoader.actsOnNight(night, id);
+    }
+
     /**
      * Get jinxes on the script for a specific botcCharacter.
      * Note: This doesn't include jinxes where the botcCharacter is the secondary target.
@@ -210,34 +324,44 @@ public record Script(Meta meta, List<botcCharacter> characters) {
      * @return The list of jinxes for the botcCharacter.
      */
     public List<Jinx> getJinxesForCharacter(botcCharacter botcCharacter) {
+        int ordinal = index.ordinal(botcCharacter.id());
+        if (ordinal >= 0 && index.characters[ordinal] == botcCharacter) {
+            return index.jinxes.get(ordinal);
+        }
+        // Not the script's own copy (e.g. a base traveller), so check its jinx targets against the index
         List<Jinx> jinxes = new ArrayList<>();
         if (botcCharacter.jinxes() == null || botcCharacter.jinxes().isEmpty()) {
             return jinxes;
         }
         for (Jinx jinx : botcCharacter.jinxes()) {
-            if (jinx == null || jinx.id() == null) {
-                continue;
-            }
-            String targetId = jinx.id();
-            boolean onScript = characters.stream().anyMatch(c -> targetId.equals(c.id()));
-            if (onScript) {
+            if (jinx != null && jinx.id() != null && index.ordinal(jinx.id()) >= 0) {
                 jinxes.add(jinx);
             }
         }
         return jinxes;
     }
 
+    /**
+     * Check whether two characters on the script have a jinx between them, in either direction.
+     * @param first The first botcCharacter.
+     * @param second The second botcCharacter.
+     * @return True if both characters are on the script and either lists a jinx with the other.
+     */
+    public boolean hasJinx(botcCharacter first, botcCharacter second) {
+        int i = index.ordinal(first.id());
+        int j = index.ordinal(second.id());
+        if (i < 0 || j < 0) {
+            return false;
+        }
+        return index.isJinxed(i, j) || index.isJinxed(j, i);
+    }
+
     /**
      * Get all jinxes in the script.
-     * @return The list of all jinxes.
+     * @return The list of all jinxes, keyed by the primary botcCharacter in script order.
      */
     public Map<botcCharacter, List<Jinx>> getJinxes() {
-        HashMap<botcCharacter, List<Jinx>> allJinxes = new HashMap<>();
-        for (botcCharacter botcCharacter : characters) {
-            List<Jinx> characterJinxes = getJinxesForCharacter(botcCharacter);
-            if (!characterJinxes.isEmpty()) allJinxes.put(botcCharacter, characterJinxes);
-        }
-        return allJinxes;
+        return index.allJinxes;
     }
 
     /**
@@ -247,17 +371,12 @@ public record Script(Meta meta, List<botcCharacter> characters) {
      * @return A list of characters belonging to the specified team.
      */
     public List<botcCharacter> getCharactersByTeam(Team team, boolean seeAll) {
-        LinkedHashSet<botcCharacter> teamCharacters = new LinkedHashSet<>();
-        characters.stream()
-                .filter(c -> c.team().equals(team))
-                .forEach(teamCharacters::add);
-        if (seeAll) {
-            for (botcCharacter botcCharacter : CharacterLoader.baseCharacters) {
-                if (botcCharacter.team().equals(team)) {
-                    teamCharacters.add(botcCharacter);
-                }
-            }
+        List<botcCharacter> onScript = index.byTeam.get(team.ordinal());
+        if (!seeAll) {
+            return onScript;
         }
+        LinkedHashSet<botcCharacter> teamCharacters = new LinkedHashSet<>(onScript);
+        teamCharacters.addAll(CharacterLoader.getCharactersByTeam(team));
         return teamCharacters.stream().toList();
     }
 
@@ -270,6 +389,86 @@ public record Script(Meta meta, List<botcCharacter> characters) {
 //                ", characters=[" + characters.size() + " characters]]";
 //    }
 
+    /**
+     * Precomputed lookups over a script's characters.
+     * Characters are addressed by their script-local ordinal, their first position in the character list.
+     */
+    public static final class Index {
+        private final botcCharacter[] characters;
+        private final Object2IntOpenHashMap<String> ordinals;
+        private final List<List<botcCharacter>> byTeam;
+        // Row i has bit j set when character i lists a jinx with character j
+        private final long[] jinxMatrix;
+        private final int jinxWords;
+        private final List<List<Jinx>> jinxes;
+        private final Map<botcCharacter, List<Jinx>> allJinxes;
+        // Ids in the script's own night orders, or null when the script uses the base night orders
+        private final Set<String> firstNightIds;
+        private final Set<String> otherNightIds;
+
+        private Index(Meta meta, List<botcCharacter> characters) {
+            int n = characters.size();
+            this.characters = characters.toArray(new botcCharacter[0]);
+            this.ordinals = new Object2IntOpenHashMap<>(n);
+            this.ordinals.defaultReturnValue(-1);
+            for (int i = 0; i < n; i++) {
+                if (!this.ordinals.containsKey(this.characters[i].id())) {
+                    this.ordinals.put(this.characters[i].id(), i);
+                }
+            }
+
+            List<List<botcCharacter>> teams = new ArrayList<>();
+            for (int t = 0; t < Team.values().length; t++) {
+                teams.add(new ArrayList<>());
+            }
+            for (int i = 0; i < n; i++) {
+                botcCharacter character = this.characters[i];
+                if (character.team() != null && ordinal(character.id()) == i) {
+                    teams.get(character.team().ordinal()).add(character);
+                }
+            }
+            this.byTeam = teams.stream().map(List::copyOf).toList();
+
+            this.jinxWords = (n + 63) >>> 6;
+            this.jinxMatrix = new long[n * jinxWords];
+            List<List<Jinx>> jinxLists = new ArrayList<>(n);
+            Map<botcCharacter, List<Jinx>> all = new LinkedHashMap<>();
+            for (int i = 0; i < n; i++) {
+                List<Jinx> onScript = new ArrayList<>();
+                if (this.characters[i].jinxes() != null) {
+                    for (Jinx jinx : this.characters[i].jinxes()) {
+                        int j = jinx == null || jinx.id() == null ? -1 : ordinal(jinx.id());
+                        if (j < 0) {
+                            continue;
+                        }
+                        jinxMatrix[i * jinxWords + (j >>> 6)] |= 1L << j;
+                        onScript.add(jinx);
+                    }
+                }
+                List<Jinx> characterJinxes = List.copyOf(onScript);
+                jinxLists.add(characterJinxes);
+                if (!characterJinxes.isEmpty() && ordinal(this.characters[i].id()) == i) {
+                    all.put(this.characters[i], characterJinxes);
+                }
+            }
+            this.jinxes = jinxLists;
+            this.allJinxes = Collections.unmodifiableMap(all);
+
+            this.firstNightIds = meta.firstNight() != null && !meta.firstNight().isEmpty()
+                    ? Set.copyOf(meta.firstNight()) : null;
+            this.otherNightIds = meta.otherNight() != null && !meta.otherNight().isEmpty()
+                    ? Set.copyOf(meta.otherNight()) : null;
+        }
+
+        private int ordinal(String id) {
+            return id == null ? -1 : ordinals.getInt(id);
+        }
+
+        private boolean isJinxed(int i, int j) {
+            return (jinxMatrix[i * jinxWords + (j >>> 6)] & (1L << j)) != 0;
+        }
+    }
+
     /**
      * Meta information that appears as the first element in array script files.
      * Stores information about the script.
@@ -319,7 +518,7 @@ public record Script(Meta meta, List<botcCharacter> characters) {
          */
         public MutableText jinxStar() {
             MutableText jinxText = Text.empty();
-            jinxText.append(new botcCharacter(this.id()).toFormattedText(false, false, true, false));
+            jinxText.append(CharacterLoader.findCharacterById(this.id()).toFormattedText(false, false, true, false));
             jinxText.append(Text.of("\n"));
             jinxText.append(Text.literal(this.reason()).setStyle(Style.EMPTY.withItalic(true).withColor(Formatting.GRAY)));
             HoverEvent hover = new HoverEvent.ShowText(jinxText);
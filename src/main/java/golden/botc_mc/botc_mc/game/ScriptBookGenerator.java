@@ -8,26 +8,72 @@ import net.minecraft.text.RawFilteredPair;
 import net.minecraft.text.Text;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Lays out a script's written book in a single pass.
+ * Texts that link to other pages are registered while laying out and have their click events filled in once every
+ * bookmark is known, since adding a click event does not change the layout.
+ */
 public class ScriptBookGenerator {
+    private static final int MAX_CACHED_BOOKS = 32;
+    /** Version of the book layout. Bump when the generator changes, so books laid out by older code are not reused. */
+    private static final int LAYOUT_VERSION = 1;
+    private static final Map<BookKey, WrittenBookContentComponent> BOOK_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<BookKey, WrittenBookContentComponent> eldest) {
+            return size() > MAX_CACHED_BOOKS;
+        }
+    };
+
     private final Script script;
     private final List<RawFilteredPair<Text>> pages = new ArrayList<>();
     private final Map<String, Integer> bookmarks = new HashMap<>();
+    private final List<PendingLink> links = new ArrayList<>();
     private int pageCount = 0;
 
     final private int MAX_PAGE_LINES = 14;
-    final private int APPROX_PAGE_WIDTH = 16;
     final private int MAX_BREAKS = 2;
 
-    public ScriptBookGenerator(Script script, Map<String, Integer> bookmarks) {
+    public ScriptBookGenerator(Script script) {
         this.script = script;
-        if (bookmarks != null) {
-            this.bookmarks.putAll(bookmarks);
+    }
+
+    /**
+     * Get the book for a script, generating it on first request.
+     * Books are cached by script id and layout version, so a script rebuilt by the registry reuses its book. Book text
+     * is translatable and translated by each client, so one book serves every locale. Scripts not loaded from the
+     * registry have no id and are laid out every time.
+     * @param script The script to get the book for.
+     * @return The written book content for the script.
+     */
+    public static WrittenBookContentComponent getOrGenerate(Script script) {
+        if (script.id() == null) {
+            return new ScriptBookGenerator(script).generateWrittenBook();
+        }
+        BookKey key = new BookKey(script.id(), LAYOUT_VERSION);
+        synchronized (BOOK_CACHE) {
+            WrittenBookContentComponent cached = BOOK_CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        WrittenBookContentComponent book = new ScriptBookGenerator(script).generateWrittenBook();
+        synchronized (BOOK_CACHE) {
+            BOOK_CACHE.put(key, book);
+        }
+        return book;
+    }
+
+    /**
+     * Discard all cached books. Called when scripts and characters are reloaded.
+     */
+    public static void invalidateCache() {
+        synchronized (BOOK_CACHE) {
+            BOOK_CACHE.clear();
         }
     }
 
@@ -35,41 +81,29 @@ public class ScriptBookGenerator {
         return bookmarks;
     }
 
-//    private int countApproxLines(String text) {
-//        if (text == null || text.isEmpty()) return 0;
-//        int lines = 0;
-//        String[] hardLines = text.split("\n", -1);
-//        for (String hard : hardLines) {
-//            if (hard.isEmpty()) { lines++; continue; }
-//            int currLen = 0;
-//            for (String word : hard.split("\\s+")) {
-//                int w = word.length();
-//                if (currLen == 0) {
-//                    // start new line with this word (possibly longer than width)
-//                    currLen = w;
-//                } else if (currLen + 1 + w <= APPROX_PAGE_WIDTH) {
-//                    currLen += 1 + w; // add space + word
-//                } else {
-//                    lines++;
-//                    currLen = w;
-//                }
-//                // if a single word is longer than width, split it across multiple lines
-//                if (currLen > APPROX_PAGE_WIDTH) {
-//                    int extra = currLen / APPROX_PAGE_WIDTH;
-//                    lines += extra;
-//                    currLen = currLen % APPROX_PAGE_WIDTH;
-//                }
-//            }
-//            if (currLen > 0) lines++;
-//        }
-//        return lines;
-//    }
-
-    private int countApproxLines(String text) {
-        if (text == null || text.isEmpty()) return 0;
-        return Arrays.stream(text.split("\n", -1))
-                .mapToInt(line -> (int) Math.ceil((double) line.length() / APPROX_PAGE_WIDTH))
-                .sum();
+    /**
+     * Register a text to link to the page of the first of the given bookmarks that exists once layout is complete.
+     * @param text The text to add the click event to.
+     * @param keys The bookmark keys to try, in order.
+     * @return The same text.
+     */
+    private MutableText linkTo(MutableText text, String... keys) {
+        links.add(new PendingLink(text, keys));
+        return text;
+    }
+
+    private void resolveLinks() {
+        for (PendingLink link : links) {
+            for (String key : link.keys()) {
+                Integer page = bookmarks.get(key);
+                if (page != null) {
+                    ClickEvent click = new ClickEvent.ChangePage(page);
+                    link.text().styled(style -> style.withClickEvent(click));
+                    break;
+                }
+            }
+        }
+        links.clear();
     }
 
     /**
@@ -83,11 +117,11 @@ public class ScriptBookGenerator {
         if (sectionTitle != null) {
             pageContent.add(sectionTitle);
         }
-        int pageLength = sectionTitle != null ? countApproxLines(sectionTitle.getString()) : 0;
+        int pageLength = sectionTitle != null ? BookTextMeasurer.countLines(sectionTitle) : 0;
 
         for (String key : sectionContent.keySet()) {
             Text item = sectionContent.get(key);
-            int itemLines = countApproxLines(item.getString());
+            int itemLines = BookTextMeasurer.countLines(item);
             // If the item is too long to fit on the current page, write the current page and start a new one
             if (pageLength + itemLines > MAX_PAGE_LINES && pageContent.size() > 1) {
                 writePage(pageContent, pageLength, maxBreaks, false);
@@ -95,7 +129,7 @@ public class ScriptBookGenerator {
                 if (sectionTitle != null) {
                     pageContent.add(sectionTitle);
                 }
-                pageLength = sectionTitle != null ? countApproxLines(sectionTitle.getString()) : 0;
+                pageLength = sectionTitle != null ? BookTextMeasurer.countLines(sectionTitle) : 0;
             }
             pageContent.add(item);
             bookmarks.put(key, pageCount + 1); // +1 because pages are 1-indexed
@@ -153,6 +187,7 @@ public class ScriptBookGenerator {
         addNightOrderPages(NightType.FIRST, script.firstNightOrder());
         addNightOrderPages(NightType.OTHER, script.otherNightOrder());
         addPlayerCountPage();
+        resolveLinks();
         return new WrittenBookContentComponent(
                 RawFilteredPair.of(script.meta().name()),
                 script.meta().author(),
@@ -224,11 +259,7 @@ public class ScriptBookGenerator {
     }
 
     private MutableText generateNameLine(botcCharacter c) {
-        MutableText nameLine = (MutableText) c.toFormattedText(false, false, true, true);
-        if (bookmarks.containsKey(c.id())) {
-            ClickEvent click = new ClickEvent.ChangePage(bookmarks.get(c.id()));
-            nameLine = nameLine.styled(style -> style.withClickEvent(click));
-        }
+        MutableText nameLine = linkTo((MutableText) c.toFormattedText(false, false, true, true), c.id());
         nameLine.append(generateJinxStars(c));
         return nameLine;
     }
@@ -237,15 +268,7 @@ public class ScriptBookGenerator {
         MutableText nameLine = Text.empty();
         List<Script.Jinx> jinxes = this.script.getJinxesForCharacter(c);
         for (Script.Jinx jinx : jinxes) {
-            MutableText jinxStar = jinx.jinxStar();
-            String key = "jinx_" + c.id() + "_" + jinx.id();
-            if (bookmarks.containsKey(key)) {
-                ClickEvent click = new ClickEvent.ChangePage(bookmarks.get(key));
-                jinxStar = jinxStar.styled(style -> style.withClickEvent(click));
-            } else if (bookmarks.containsKey(jinx.id())) {
-                ClickEvent click = new ClickEvent.ChangePage(bookmarks.get(jinx.id()));
-                jinxStar = jinxStar.styled(style -> style.withClickEvent(click));
-            }
+            MutableText jinxStar = linkTo(jinx.jinxStar(), "jinx_" + c.id() + "_" + jinx.id(), jinx.id());
             nameLine.append(jinxStar);
         }
         return nameLine;
@@ -285,7 +308,7 @@ public class ScriptBookGenerator {
         if (script.meta().bootlegger() == null || script.meta().bootlegger().isEmpty()) {
             return;
         }
-        MutableText header = (MutableText) new botcCharacter("bootlegger").toFormattedText(true, true, true, true);
+        MutableText header = (MutableText) CharacterLoader.findCharacterById("bootlegger").toFormattedText(true, true, true, true);
         header.styled(style -> style.withUnderline(true));
         List<Text> pageContent = new ArrayList<>();
         for (String rule : script.meta().bootlegger()) {
@@ -296,7 +319,7 @@ public class ScriptBookGenerator {
 
     private void addJinxesPages() {
         Map<botcCharacter, List<Script.Jinx>> jinxes = script.getJinxes();
-        botc.LOGGER.info(jinxes.toString());
+        botc.LOGGER.debug(jinxes.toString());
         if (jinxes.isEmpty()) {
             return;
         }
@@ -307,17 +330,11 @@ public class ScriptBookGenerator {
         for (botcCharacter primary : jinxes.keySet()) {
             List<Script.Jinx> charJinxes = jinxes.get(primary);
             for (Script.Jinx jinx : charJinxes) {
-                botcCharacter secondary = new botcCharacter(jinx.id());
-                MutableText primaryText = (MutableText) primary.toFormattedText(true, true, true, true);
-                if (bookmarks.containsKey(primary.id())) {
-                    ClickEvent click = new ClickEvent.ChangePage(bookmarks.get(primary.id()));
-                    primaryText = primaryText.styled(style -> style.withClickEvent(click));
-                }
-                MutableText secondaryText = (MutableText) secondary.toFormattedText(true, true, true, true);
-                if (bookmarks.containsKey(secondary.id())) {
-                    ClickEvent click = new ClickEvent.ChangePage(bookmarks.get(secondary.id()));
-                    secondaryText = secondaryText.styled(style -> style.withClickEvent(click));
-                }
+                botcCharacter secondary = CharacterLoader.findCharacterById(jinx.id());
+                MutableText primaryText = linkTo((MutableText) primary.toFormattedText(true, true, true, true),
+                        primary.id());
+                MutableText secondaryText = linkTo((MutableText) secondary.toFormattedText(true, true, true, true),
+                        secondary.id());
                 MutableText item = Text.empty()
                     .append(primaryText)
                     .append(" + ")
@@ -345,12 +362,7 @@ public class ScriptBookGenerator {
                 item.append(" ");
             }
             item.append(Text.of((i + 1) + ": "));
-            MutableText text = nightAction.toFormattedText(true, false, true, true, night);
-            if (bookmarks.containsKey(nightAction.id)) {
-                ClickEvent click = new ClickEvent.ChangePage(bookmarks.get(nightAction.id));
-                text = text.styled(style -> style.withClickEvent(click));
-            }
-            item.append(text);
+            item.append(linkTo(nightAction.toFormattedText(true, false, true, true, night), nightAction.id));
             pageContent.add(item);
         }
         writeSection(header, pageContent);
@@ -396,5 +408,12 @@ public class ScriptBookGenerator {
         writeSection(header, pageContent);
     }
 
+    /**
+     * A text waiting for its page link until every bookmark is known.
+     */
+    private record PendingLink(MutableText text, String[] keys) {
+    }
 
-}
\ No newline at end of file
+    private record BookKey(String scriptId, int layoutVersion) {
+    }
+}
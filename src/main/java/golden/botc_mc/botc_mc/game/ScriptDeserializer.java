@@ -7,13 +7,20 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class ScriptDeserializer implements JsonDeserializer<Script> {
 
+    private static final Set<String> META_FIELDS = Set.of("name", "author", "logo", "hide_title", "background",
+            "almanac", "flavor", "bootlegger", "firstNight", "otherNight", "colour");
+
     @Override
     public Script deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
         if (!json.isJsonArray()) {
@@ -21,43 +28,15 @@ public class ScriptDeserializer implements JsonDeserializer<Script> {
         }
 
         JsonArray jsonArray = json.getAsJsonArray();
-        String name = null;
-        String author = null;
-        String logo = null;
-        boolean hideTitle = false;
-        String background = null;
-        String almanac = null;
-        String flavor = null;
-        List<String> bootlegger = null;
-        List<String> firstNight = null;
-        List<String> otherNight = null;
-        int[] colour = null;
+        Script.Meta meta = null;
         List<botcCharacter> characters = new ArrayList<>();
 
         for (JsonElement element : jsonArray) {
             if (element.isJsonObject() && element.getAsJsonObject().has("id") && "_meta".equals(element.getAsJsonObject().get("id").getAsString())) {
-                JsonObject metaObj = element.getAsJsonObject();
-                name = getString(metaObj, "name");
-                author = getString(metaObj, "author");
-                logo = getString(metaObj, "logo");
-                hideTitle = metaObj.has("hide_title") && metaObj.get("hide_title").getAsBoolean();
-                background = getString(metaObj, "background");
-                almanac = getString(metaObj, "almanac");
-                flavor = getString(metaObj, "flavor");
-                bootlegger = getStringList(metaObj, "bootlegger");
-                firstNight = getStringList(metaObj, "firstNight");
-                otherNight = getStringList(metaObj, "otherNight");
-
-                if (metaObj.has("colour") && metaObj.get("colour").isJsonArray()) {
-                    JsonArray colourArray = metaObj.get("colour").getAsJsonArray();
-                    colour = new int[colourArray.size()];
-                    for (int i = 0; i < colourArray.size(); i++) {
-                        colour[i] = colourArray.get(i).getAsInt();
-                    }
-                }
-
+                meta = readMeta(element.getAsJsonObject());
             } else if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
-                characters.add(new botcCharacter(element.getAsString()));
+                // Completed from the base characters when the script is resolved
+                characters.add(CharacterLoader.partialCharacter(element.getAsString()));
             } else if (element.isJsonObject()) {
                 characters.add(context.deserialize(element, botcCharacter.class));
             } else {
@@ -65,16 +44,82 @@ public class ScriptDeserializer implements JsonDeserializer<Script> {
             }
         }
 
-        return new Script(name, author, logo, hideTitle, background, almanac, flavor, bootlegger,
-                firstNight, otherNight, colour, characters);
+        return new Script(meta != null ? meta : readMeta(new JsonObject()), characters);
+    }
+
+    /**
+     * Stream the meta entry and character ids out of an array script without building any characters.
+     * Only meta fields are materialised; every other value is skipped, and nothing after the array is read.
+     * @param reader The reader positioned at the start of the script array.
+     * @param characterIds The list to add the character ids to, in script order.
+     * @return The script's meta information.
+     * @throws IOException If the script could not be read.
+     */
+    static Script.Meta readSummary(JsonReader reader, List<String> characterIds) throws IOException {
+        Script.Meta meta = null;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            switch (reader.peek()) {
+                case STRING -> characterIds.add(reader.nextString());
+                case BEGIN_OBJECT -> {
+                    String id = null;
+                    JsonObject metaFields = new JsonObject();
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if ("id".equals(name)) {
+                            id = reader.nextString();
+                        } else if (META_FIELDS.contains(name)) {
+                            metaFields.add(name, JsonParser.parseReader(reader));
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    if ("_meta".equals(id)) {
+                        meta = readMeta(metaFields);
+                    } else if (id != null) {
+                        characterIds.add(id);
+                    }
+                }
+                default -> throw new JsonParseException("Unexpected JSON element: " + reader.peek());
+            }
+        }
+        reader.endArray();
+        return meta != null ? meta : readMeta(new JsonObject());
+    }
+
+    private static Script.Meta readMeta(JsonObject metaObj) {
+        int[] colour = null;
+        if (metaObj.has("colour") && metaObj.get("colour").isJsonArray()) {
+            JsonArray colourArray = metaObj.get("colour").getAsJsonArray();
+            colour = new int[colourArray.size()];
+            for (int i = 0; i < colourArray.size(); i++) {
+                colour[i] = colourArray.get(i).getAsInt();
+            }
+        }
+        return new Script.Meta(
+                "_meta",
+                getString(metaObj, "name"),
+                getString(metaObj, "author"),
+                getString(metaObj, "flavor"),
+                getString(metaObj, "logo"),
+                metaObj.has("hide_title") && metaObj.get("hide_title").getAsBoolean(),
+                getString(metaObj, "background"),
+                getString(metaObj, "almanac"),
+                getStringList(metaObj, "bootlegger"),
+                getStringList(metaObj, "firstNight"),
+                getStringList(metaObj, "otherNight"),
+                colour
+        );
     }
 
     // Helper methods
-    private String getString(JsonObject obj, String key) {
+    private static String getString(JsonObject obj, String key) {
         return obj.has(key) ? obj.get(key).getAsString() : null;
     }
 
-    private List<String> getStringList(JsonObject obj, String key) {
+    private static List<String> getStringList(JsonObject obj, String key) {
         if (obj.has(key) && obj.get(key).isJsonArray()) {
             List<String> list = new ArrayList<>();
             for (JsonElement element : obj.get(key).getAsJsonArray()) {
@@ -84,4 +129,4 @@ public class ScriptDeserializer implements JsonDeserializer<Script> {
         }
         return null;
     }
-}
\ No newline at end of file
+}
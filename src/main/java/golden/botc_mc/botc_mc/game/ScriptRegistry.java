@@ -0,0 +1,149 @@
+package golden.botc_mc.botc_mc.game;
+
+import com.google.gson.stream.JsonReader;
+import golden.botc_mc.botc_mc.botc;
+import net.minecraft.resource.Resource;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the scripts available from data packs in two tiers.
+ * At reload only each script's meta entry and character ids are indexed as a {@link Summary}, along with the raw
+ * JSON read while the reload prepares. The full script is parsed from that JSON and resolved against the base
+ * characters on first use, and kept in a small LRU cache. Resources are not kept, since their packs are closed by
+ * the next reload.
+ * Each reload replaces the index and the cache together with a single volatile write, so readers always see a
+ * consistent snapshot and scripts removed from data packs do not linger.
+ */
+public final class ScriptRegistry {
+
+    /**
+     * Maximum number of fully parsed scripts to keep cached at once.
+     */
+    private static final int MAX_MATERIALISED = 32;
+
+    private static volatile State state = new State(Map.of());
+
+    private ScriptRegistry() {
+    }
+
+    /**
+     * Read the summary of a script resource. Safe to call off-thread.
+     * @param id The identifier string of the script resource.
+     * @param resource The script resource.
+     * @return The summary, or null if the script could not be read.
+     */
+    public static Summary readSummary(String id, Resource resource) {
+        try (var stream = resource.getInputStream()) {
+            String json = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            JsonReader reader = new JsonReader(new StringReader(json));
+            List<String> characterIds = new ArrayList<>();
+            Script.Meta meta = ScriptDeserializer.readSummary(reader, characterIds);
+            botc.LOGGER.debug("Indexed script {}", meta.name());
+            return new Summary(id, meta, List.copyOf(characterIds), json);
+        } catch (Exception e) {
+            botc.LOGGER.error("Error reading script {}", id, e);
+            return null;
+        }
+    }
+
+    /**
+     * Publish the given script summaries, replacing all previous scripts and discarding every cached script.
+     * @param summaries The script summaries keyed by their resource identifier string.
+     */
+    public static void publish(Map<String, Summary> summaries) {
+        state = new State(Map.copyOf(summaries));
+    }
+
+    /**
+     * Look up a script by its resource identifier string, with or without the ".json" suffix.
+     * The script is parsed and resolved on first use.
+     * @param id The identifier of the script, for example "botc-mc:scripts/trouble_brewing".
+     * @return The resolved Script, or null if no such script is loaded or it failed to parse.
+     */
+    public static Script get(String id) {
+        State current = state;
+        Summary summary = current.find(id);
+        return summary == null ? null : current.materialise(summary);
+    }
+
+    /**
+     * Look up the summary of a script without parsing it.
+     * @param id The identifier of the script, with or without the ".json" suffix.
+     * @return The summary, or null if no such script is loaded.
+     */
+    public static Summary getSummary(String id) {
+        return state.find(id);
+    }
+
+    /**
+     * Get the summaries of all loaded scripts.
+     * @return An immutable map of summaries keyed by their resource identifier string.
+     */
+    public static Map<String, Summary> all() {
+        return state.summaries;
+    }
+
+    /**
+     * Check whether any scripts have been loaded.
+     * @return True if no scripts are loaded.
+     */
+    public static boolean isEmpty() {
+        return state.summaries.isEmpty();
+    }
+
+    /**
+     * The indexed parts of a script: its meta entry and the ids of its characters.
+     * @param id The resource identifier string of the script.
+     * @param meta The script's meta information.
+     * @param characterIds The ids of the characters on the script, in script order.
+     * @param json The script's raw JSON, to parse the full script from.
+     */
+    public record Summary(String id, Script.Meta meta, List<String> characterIds, String json) {
+    }
+
+    private static final class State {
+        private final Map<String, Summary> summaries;
+        private final Map<String, Script> materialised = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Script> eldest) {
+                return size() > MAX_MATERIALISED;
+            }
+        };
+
+        private State(Map<String, Summary> summaries) {
+            this.summaries = summaries;
+        }
+
+        private Summary find(String id) {
+            if (id == null) {
+                return null;
+            }
+            Summary summary = summaries.get(id);
+            return summary != null ? summary : summaries.get(id + ".json");
+        }
+
+        private Script materialise(Summary summary) {
+            synchronized (materialised) {
+                Script cached = materialised.get(summary.id());
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            Script parsed = Script.fromJson(summary.json());
+            if (parsed == null) {
+                return null;
+            }
+            Script resolved = parsed.resolve(summary.id());
+            synchronized (materialised) {
+                Script existing = materialised.putIfAbsent(summary.id(), resolved);
+                return existing != null ? existing : resolved;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.game.map.Map;
+import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
+import golden.botc_mc.botc_mc.game.seat.Seat;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Places the player seats of a game around the map's town square.
+ * <p>
+ * Positions come from {@link Map#getSeatPositions(int)}, which are cached per seat count, so resizing or reordering
+ * the circle only reassigns positions to seats. Each seat's position is also its recovery anchor. Seated players
+ * are moved to their seats in one pass on the tick after {@link #requestSeating()}.
+ */
+public final class SeatLayout implements botcSeatManager.SeatListener {
+    private final ServerWorld world;
+    private final Map map;
+    private final botcSeatManager seatManager;
+    private final PlayerRecovery recovery;
+    private List<Map.SeatPosition> positions = List.of();
+    private boolean seatingRequested;
+
+    /**
+     * Create the layout for a game and place its current seats.
+     * @param world The game world.
+     * @param map The map, providing the town square.
+     * @param seatManager The seats to lay out.
+     * @param recovery Recovery handler whose anchors follow the layout.
+     */
+    public SeatLayout(ServerWorld world, Map map, botcSeatManager seatManager, PlayerRecovery recovery) {
+        this.world = world;
+        this.map = map;
+        this.seatManager = seatManager;
+        this.recovery = recovery;
+        seatManager.addListener(this);
+        this.layout();
+    }
+
+    /**
+     * Get the position of a seat.
+     * @param seat The player seat.
+     * @return The seat's position, or null if the map has no town square or the seat is not in the circle.
+     */
+    public Map.SeatPosition getPosition(PlayerSeat seat) {
+        int index = this.seatManager.getPlayerSeats().indexOf(seat);
+        return index >= 0 && index < this.positions.size() ? this.positions.get(index) : null;
+    }
+
+    /**
+     * Move every seated player to their seat on the next tick. Repeated requests in one tick move players once.
+     */
+    public void requestSeating() {
+        this.seatingRequested = true;
+    }
+
+    /**
+     * Perform a requested seating.
+     */
+    public void tick() {
+        if (!this.seatingRequested) {
+            return;
+        }
+        this.seatingRequested = false;
+        List<PlayerSeat> seats = this.seatManager.getPlayerSeats();
+        for (int i = 0; i < seats.size() && i < this.positions.size(); i++) {
+            ServerPlayerEntity player = seats.get(i).getPlayerEntity();
+            if (player == null || player.isRemoved() || player.getWorld() != this.world) {
+                continue;
+            }
+            Map.SeatPosition position = this.positions.get(i);
+            Vec3d pos = position.pos();
+            player.teleport(this.world, pos.x, pos.y, pos.z, Set.of(), position.yaw(), 0.0f, true);
+        }
+    }
+
+    /**
+     * Stop following seat changes. Called when the game closes.
+     */
+    public void close() {
+        this.seatManager.removeListener(this);
+    }
+
+    @Override
+    public void onSeatsChanged(Set<Seat> seats) {
+        // Occupant and token changes do not move chairs
+    }
+
+    @Override
+    public void onSeatsRearranged() {
+        this.layout();
+    }
+
+    private void layout() {
+        List<PlayerSeat> seats = this.seatManager.getPlayerSeats();
+        this.positions = this.map.getSeatPositions(seats.size());
+        if (this.positions.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < seats.size(); i++) {
+            this.recovery.setAnchor(seats.get(i), this.positions.get(i).pos());
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package golden.botc_mc.botc_mc.game;
 
-import net.minecraft.block.BlockState;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -10,21 +9,35 @@ import net.minecraft.world.GameMode;
 import golden.botc_mc.botc_mc.game.map.Map;
 import golden.botc_mc.botc_mc.game.map.Map.RespawnRegion;
 
+import java.util.List;
 import java.util.Set;
 
 /**
  * Spawn logic helper.
  * <p>
- * Encapsulates safe spawn selection and player reset operations. The helper tries to
- * find a suitable standing surface within a small radius of the respawn region center
- * and falls back to a deterministic location if none is found.
- * <p>
- * Record components:
- * @param world server world
- * @param map active map
+ * Encapsulates safe spawn selection and player reset operations. Spawn positions come from the
+ * map's precomputed spawn surface ({@link Map#getSpawnSurface()}), so no world scan happens per
+ * spawn. Successive spawns cycle through the surface so players are spread out rather than
+ * stacked on one block, and a deterministic location is used if the surface is empty.
  */
-public record SpawnLogic(ServerWorld world, Map map) {
-    private static final int SEARCH_RADIUS = 8;
+public final class SpawnLogic {
+    private final ServerWorld world;
+    private final Map map;
+    private final List<BlockPos> surface;
+    private int nextSpawn;
+
+    /**
+     * Create spawn logic for a game world.
+     * @param world server world
+     * @param map active map
+     */
+    public SpawnLogic(ServerWorld world, Map map) {
+        this.world = world;
+        this.map = map;
+        this.surface = map.getSpawnSurface().stream()
+                .filter(pos -> pos.getY() >= world.getBottomY())
+                .toList();
+    }
 
     /** Reset player before spawn.
      * <p>
@@ -44,36 +57,32 @@ public record SpawnLogic(ServerWorld world, Map map) {
 
     /** Determine a safe spawn position (e.g. avoid void).
      * <p>
-     * Searches for a safe spawn position by looking for the highest spawnable block
-     * around the respawn region's center. It avoids positions that are too close to
-     * the world bottom to prevent void spawns. If no suitable position is found, it
-     * falls back to the center of the respawn region, one block above the ground.
+     * Returns the spawn surface position nearest the respawn region's center. If the map
+     * has no spawn surface, falls back to the center of the respawn region, one block above
+     * the ground.
      *
      * @return position vector
      */
     public Vec3d getSafeSpawnPosition() {
-        RespawnRegion respawn = this.map.getRegions().spawn();
-        BlockPos center = respawn.centerBlock();
-        BlockPos best = findHighestSpawnable(center);
-        if (best != null) return new Vec3d(best.getX() + 0.5, best.getY() + 1.0, best.getZ() + 0.5);
+        if (!this.surface.isEmpty()) return standingOn(this.surface.getFirst());
         // Fallback: use center one block above as last resort
+        BlockPos center = this.map.getRegions().spawn().centerBlock();
         return new Vec3d(center.getX() + 0.5, Math.max(center.getY(), this.world.getBottomY()) + 1.0, center.getZ() + 0.5);
     }
 
     /** Spawn player at map respawn location.
      * <p>
-     * Teleports the player to the determined safe spawn position within the respawn
-     * region. If no suitable position is found, the player is teleported to a random
-     * location within a small radius around the respawn region's center.
+     * Teleports the player to the next position of the spawn surface. If the map has no
+     * spawn surface, the player is teleported to a random location within a small radius
+     * around the respawn region's center.
      *
      * @param player target player
      */
     public void spawnPlayer(ServerPlayerEntity player) {
         RespawnRegion respawn = this.map.getRegions().spawn();
-        BlockPos center = respawn.centerBlock();
 
-        BlockPos best = findHighestSpawnable(center);
-        if (best == null) {
+        if (this.surface.isEmpty()) {
+            BlockPos center = respawn.centerBlock();
             float radius = 2.0f;
             float x = center.getX() + MathHelper.nextFloat(player.getRandom(), -radius, radius);
             float z = center.getZ() + MathHelper.nextFloat(player.getRandom(), -radius, radius);
@@ -81,56 +90,12 @@ public record SpawnLogic(ServerWorld world, Map map) {
             return;
         }
 
-        double x = best.getX() + 0.5;
-        double y = best.getY() + 1.0;
-        double z = best.getZ() + 0.5;
-        player.teleport(this.world, x, y, z, Set.of(), respawn.yaw(), respawn.pitch(), true);
-    }
-
-    /**
-     * Finds the highest spawnable block near a given center within SEARCH_RADIUS.
-     */
-    private BlockPos findHighestSpawnable(BlockPos center) {
-        BlockPos best = null;
-        final int bottom = this.world.getBottomY();
-        final int top = bottom + this.world.getDimension().height() - 1;
-        final int startYCap = Math.min(top, center.getY() + 96);
-
-        for (int dx = -SEARCH_RADIUS; dx <= SEARCH_RADIUS; dx++) {
-            for (int dz = -SEARCH_RADIUS; dz <= SEARCH_RADIUS; dz++) {
-                int x = center.getX() + dx;
-                int z = center.getZ() + dz;
-                BlockPos.Mutable pos = new BlockPos.Mutable(x, startYCap, z);
-                while (pos.getY() >= bottom) {
-                    BlockState state = this.world.getBlockState(pos);
-                    if (!state.isAir() && isSpawnSurface(pos, state)) {
-                        BlockPos surface = pos.toImmutable();
-                        if (canStandAbove(surface)) {
-                            if (best == null || surface.getY() > best.getY()) best = surface;
-                            break;
-                        }
-                    }
-                    pos.move(0, -1, 0);
-                }
-            }
-        }
-        return best;
-    }
-
-    /**
-     * Determines if the given block state at the position can serve as a spawn surface.
-     * Any block with a collision shape counts as a surface the player can stand on,
-     * which includes glass and stained glass.
-     */
-    private boolean isSpawnSurface(BlockPos pos, BlockState state) {
-        // Any block with a collision shape counts as a surface the player can stand on,
-        // which includes glass and stained glass.
-        return !state.getCollisionShape(this.world, pos).isEmpty();
+        Vec3d pos = standingOn(this.surface.get(this.nextSpawn));
+        this.nextSpawn = (this.nextSpawn + 1) % this.surface.size();
+        player.teleport(this.world, pos.x, pos.y, pos.z, Set.of(), respawn.yaw(), respawn.pitch(), true);
     }
 
-    private boolean canStandAbove(BlockPos surface) {
-        BlockPos above = surface.up();
-        BlockPos above2 = surface.up(2);
-        return this.world.isAir(above) && this.world.isAir(above2);
+    private static Vec3d standingOn(BlockPos surface) {
+        return new Vec3d(surface.getX() + 0.5, surface.getY() + 1.0, surface.getZ() + 0.5);
     }
 }
@@ -0,0 +1,142 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
+import golden.botc_mc.botc_mc.game.seat.Seat;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import xyz.nucleoid.plasmid.api.game.common.GlobalWidgets;
+import xyz.nucleoid.plasmid.api.game.common.widget.SidebarWidget;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sidebar showing the town circle to everyone in the game.
+ * <p>
+ * Each player seat is shown in seat order, with only what the whole town knows: who sits there, whether they are dead
+ * and whether they still have their ghost vote. Characters, alignments and reminders stay in the grimoire. The
+ * sidebar shows at most {@value #MAX_LINES} lines, so larger circles pack two seats to a line. Lines are rendered when
+ * one of their seats changes and only lines whose text differs are sent, so changes the town cannot see send nothing.
+ */
+public final class TownSidebar implements botcSeatManager.SeatListener {
+    /** Most lines the client shows in a sidebar. */
+    public static final int MAX_LINES = 15;
+
+    private final SidebarWidget widget;
+    private final botcSeatManager seatManager;
+    // Text last sent for each line, top line first
+    private final List<Text> lines = new ArrayList<>();
+    // Position of each seat in the circle
+    private final java.util.Map<Seat, Integer> indices = new IdentityHashMap<>();
+    private int seatsPerLine = 1;
+
+    /**
+     * Create the sidebar for a game and show its current seats.
+     * @param widgets The game's widgets, which show the sidebar to every player in the game.
+     * @param seatManager The seats to show.
+     */
+    public TownSidebar(GlobalWidgets widgets, botcSeatManager seatManager) {
+        this.widget = widgets.addSidebar(Text.translatable("gui.botc-mc.sidebar.title").formatted(Formatting.GOLD, Formatting.BOLD));
+        this.seatManager = seatManager;
+        seatManager.addListener(this);
+        this.onSeatsRearranged();
+    }
+
+    /**
+     * Stop following seat changes. Called when the game closes.
+     */
+    public void close() {
+        this.seatManager.removeListener(this);
+    }
+
+    @Override
+    public void onSeatsChanged(Set<Seat> seats) {
+        List<PlayerSeat> circle = this.seatManager.getPlayerSeats();
+        int lineCount = lineCount(circle.size(), this.seatsPerLine);
+        for (Seat seat : seats) {
+            // Storyteller seats are not shown
+            Integer index = this.indices.get(seat);
+            if (index != null) {
+                int line = index / this.seatsPerLine;
+                this.setLine(line, lineCount, this.render(circle, line));
+            }
+        }
+    }
+
+    @Override
+    public void onSeatsRearranged() {
+        List<PlayerSeat> circle = this.seatManager.getPlayerSeats();
+        this.indices.clear();
+        for (int i = 0; i < circle.size(); i++) {
+            this.indices.put(circle.get(i), i);
+        }
+        this.seatsPerLine = circle.size() > MAX_LINES ? 2 : 1;
+        int lineCount = lineCount(circle.size(), this.seatsPerLine);
+        // Values are counted from the bottom, so a change in line count moves every line
+        if (lineCount != this.lines.size()) {
+            for (int i = 0; i < this.lines.size(); i++) {
+                this.widget.removeLine(this.lines.size() - i);
+            }
+            this.lines.clear();
+        }
+        for (int line = 0; line < lineCount; line++) {
+            this.setLine(line, lineCount, this.render(circle, line));
+        }
+    }
+
+    private static int lineCount(int seats, int seatsPerLine) {
+        return (seats + seatsPerLine - 1) / seatsPerLine;
+    }
+
+    /**
+     * Send a line if its text has changed.
+     * @param line The line index, from the top.
+     * @param count The number of lines.
+     * @param text The line's text.
+     */
+    private void setLine(int line, int count, Text text) {
+        if (line < this.lines.size() && Objects.equals(this.lines.get(line), text)) {
+            return;
+        }
+        while (this.lines.size() <= line) {
+            this.lines.add(null);
+        }
+        this.lines.set(line, text);
+        // The sidebar sorts higher values to the top
+        this.widget.setLine(count - line, text);
+    }
+
+    private Text render(List<PlayerSeat> circle, int line) {
+        MutableText text = Text.empty();
+        int first = line * this.seatsPerLine;
+        for (int i = first; i < first + this.seatsPerLine && i < circle.size(); i++) {
+            if (i > first) {
+                text.append(Text.literal("  "));
+            }
+            text.append(render(i, circle.get(i)));
+        }
+        return text;
+    }
+
+    private static Text render(int index, PlayerSeat seat) {
+        ServerPlayerEntity player = seat.getPlayerEntity();
+        MutableText name = player != null
+                ? Text.literal(player.getGameProfile().getName())
+                : Text.translatable("gui.botc-mc.seat.unoccupied").formatted(Formatting.ITALIC);
+        MutableText line = Text.literal((index + 1) + ". ").formatted(Formatting.GRAY);
+        if (seat.isAlive()) {
+            return line.append(name.formatted(Formatting.WHITE));
+        }
+        line.append(name.formatted(Formatting.DARK_GRAY, Formatting.STRIKETHROUGH))
+                .append(Text.translatable("gui.botc-mc.sidebar.dead").formatted(Formatting.DARK_GRAY));
+        if (seat.canGhostVote()) {
+            line.append(Text.translatable("gui.botc-mc.sidebar.ghost_vote").formatted(Formatting.AQUA));
+        }
+        return line;
+    }
+}
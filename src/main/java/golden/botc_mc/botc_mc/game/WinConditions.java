@@ -0,0 +1,280 @@
+package golden.botc_mc.botc_mc.game;
+
+import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
+import golden.botc_mc.botc_mc.game.seat.Seat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Decides when a game has been won.
+ * <p>
+ * Alive counts per alignment and the number of living demons are kept up to date from seat changes: each changed
+ * seat's previous contribution is taken away and its new one added, so the standard end conditions are checked in
+ * constant time rather than by rescanning the circle. Only seats with a character count, and travellers do not count
+ * towards the number of players left alive. Scripts can adjust or veto a result with a {@link Rule}.
+ */
+public final class WinConditions implements botcSeatManager.SeatListener {
+    /** Character id of the Saint, whose execution loses the game for good. */
+    private static final String SAINT = "saint";
+    /** Players left alive, not counting travellers, at which evil wins while a demon lives. */
+    private static final int FINAL_PLAYERS = 2;
+
+    /**
+     * A script-specific win condition.
+     * <p>
+     * Rules run in the order they were added. Each is given the winner decided so far, which is null when nobody has
+     * won, and returns the winner to use instead: the same value to leave it alone, another alignment to declare a
+     * win, or null to prevent one.
+     */
+    public interface Rule {
+        /**
+         * Adjust the result after seats have changed.
+         * @param state The current counts.
+         * @param winner The winner decided so far, or null.
+         * @return The winner to use, or null for no winner.
+         */
+        default Team.Alignment check(WinConditions state, Team.Alignment winner) {
+            return winner;
+        }
+
+        /**
+         * Adjust the result of an execution.
+         * @param state The current counts.
+         * @param seat The executed seat.
+         * @param winner The winner decided so far, or null.
+         * @return The winner to use, or null for no winner.
+         */
+        default Team.Alignment onExecuted(WinConditions state, PlayerSeat seat, Team.Alignment winner) {
+            return winner;
+        }
+    }
+
+    /**
+     * What a seat adds to the counts.
+     */
+    private record Contribution(boolean alive, Team.Alignment alignment, boolean demon, boolean traveller) {
+        static Contribution of(PlayerSeat seat) {
+            botcCharacter character = seat.getCharacter();
+            if (character == null || character == botcCharacter.EMPTY || character.team() == null) {
+                return null;
+            }
+            return new Contribution(seat.isAlive(), seat.getAlignment(),
+                    character.team() == Team.DEMON, character.team() == Team.TRAVELLER);
+        }
+    }
+
+    private final botcSeatManager seatManager;
+    private final Consumer<Team.Alignment> onWin;
+    private final List<Rule> rules = new CopyOnWriteArrayList<>();
+    private final java.util.Map<PlayerSeat, Contribution> contributions = new IdentityHashMap<>();
+    private final int[] aliveByAlignment = new int[Team.Alignment.values().length];
+    private int alivePlayers;
+    private int demonsAlive;
+    private int demonsInPlay;
+    private boolean active;
+    private Team.Alignment winner;
+
+    /**
+     * Create the win conditions for a game and start following its seats.
+     * @param seatManager The seats to count.
+     * @param onWin Called once, with the winning alignment, when the game is won.
+     */
+    public WinConditions(botcSeatManager seatManager, Consumer<Team.Alignment> onWin) {
+        this.seatManager = seatManager;
+        this.onWin = onWin;
+        seatManager.addListener(this);
+        this.recount();
+    }
+
+    /**
+     * Add a script-specific rule.
+     * @param rule The rule.
+     */
+    public void addRule(Rule rule) {
+        this.rules.add(rule);
+    }
+
+    /**
+     * Remove a script-specific rule.
+     * @param rule The rule.
+     */
+    public void removeRule(Rule rule) {
+        this.rules.remove(rule);
+    }
+
+    /**
+     * Set whether the game can be won. Counts are kept while inactive, so the storyteller can set up the grimoire
+     * without ending the game; becoming active checks the current counts immediately.
+     * @param active True while the game is being played.
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+        if (active) {
+            this.evaluate();
+        }
+    }
+
+    /**
+     * Record that a seat was executed, which can end the game by itself.
+     * @param seat The executed seat.
+     */
+    public void onExecuted(PlayerSeat seat) {
+        if (!this.active || this.winner != null) {
+            return;
+        }
+        botcCharacter character = seat.getCharacter();
+        Team.Alignment result = character != null && SAINT.equals(character.id()) ? Team.Alignment.EVIL : null;
+        for (Rule rule : this.rules) {
+            result = rule.onExecuted(this, seat, result);
+        }
+        this.declare(result);
+    }
+
+    /**
+     * Get the winning alignment.
+     * @return The winner, or null if the game has not been won.
+     */
+    public Team.Alignment getWinner() {
+        return this.winner;
+    }
+
+    /**
+     * Get the number of living seats of an alignment, including travellers.
+     * @param alignment The alignment.
+     * @return The number alive.
+     */
+    public int getAlive(Team.Alignment alignment) {
+        return this.aliveByAlignment[alignment.ordinal()];
+    }
+
+    /**
+     * Get the number of living players, not counting travellers.
+     * @return The number alive.
+     */
+    public int getAlivePlayers() {
+        return this.alivePlayers;
+    }
+
+    /**
+     * Get the number of living demons.
+     * @return The number alive.
+     */
+    public int getDemonsAlive() {
+        return this.demonsAlive;
+    }
+
+    /**
+     * Get the number of seats with a demon character, alive or dead.
+     * @return The number in play.
+     */
+    public int getDemonsInPlay() {
+        return this.demonsInPlay;
+    }
+
+    /**
+     * Stop following the seats. Called when the game closes.
+     */
+    public void close() {
+        this.seatManager.removeListener(this);
+        this.rules.clear();
+        this.contributions.clear();
+    }
+
+    @Override
+    public void onSeatsChanged(Set<Seat> seats) {
+        for (Seat seat : seats) {
+            if (seat instanceof PlayerSeat playerSeat) {
+                this.update(playerSeat);
+            }
+        }
+        this.evaluate();
+    }
+
+    @Override
+    public void onSeatsRearranged() {
+        // Seats may have been added or removed, so reconcile against the circle
+        Set<PlayerSeat> current = new HashSet<>(this.seatManager.getPlayerSeats());
+        for (PlayerSeat seat : List.copyOf(this.contributions.keySet())) {
+            if (!current.contains(seat)) {
+                this.apply(this.contributions.remove(seat), -1);
+            }
+        }
+        for (PlayerSeat seat : current) {
+            this.update(seat);
+        }
+        this.evaluate();
+    }
+
+    private void recount() {
+        this.contributions.clear();
+        Arrays.fill(this.aliveByAlignment, 0);
+        this.alivePlayers = 0;
+        this.demonsAlive = 0;
+        this.demonsInPlay = 0;
+        for (PlayerSeat seat : this.seatManager.getPlayerSeats()) {
+            this.update(seat);
+        }
+    }
+
+    private void update(PlayerSeat seat) {
+        Contribution next = Contribution.of(seat);
+        Contribution previous = next == null ? this.contributions.remove(seat) : this.contributions.put(seat, next);
+        if (Objects.equals(previous, next)) {
+            return;
+        }
+        this.apply(previous, -1);
+        this.apply(next, 1);
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        if (contribution == null) {
+            return;
+        }
+        if (contribution.demon()) {
+            this.demonsInPlay += sign;
+        }
+        if (!contribution.alive()) {
+            return;
+        }
+        this.aliveByAlignment[contribution.alignment().ordinal()] += sign;
+        if (!contribution.traveller()) {
+            this.alivePlayers += sign;
+        }
+        if (contribution.demon()) {
+            this.demonsAlive += sign;
+        }
+    }
+
+    private void evaluate() {
+        if (!this.active || this.winner != null) {
+            return;
+        }
+        Team.Alignment result = null;
+        if (this.demonsInPlay > 0) {
+            if (this.demonsAlive == 0) {
+                result = Team.Alignment.GOOD;
+            } else if (this.alivePlayers <= FINAL_PLAYERS) {
+                result = Team.Alignment.EVIL;
+            }
+        }
+        for (Rule rule : this.rules) {
+            result = rule.check(this, result);
+        }
+        this.declare(result);
+    }
+
+    private void declare(Team.Alignment result) {
+        if (result == null) {
+            return;
+        }
+        this.winner = result;
+        this.onWin.accept(result);
+    }
+}
@@ -20,7 +20,9 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.world.GameMode;
+import golden.botc_mc.botc_mc.game.gui.PlayerHeadItemStack;
 import golden.botc_mc.botc_mc.game.map.Map;
+import golden.botc_mc.botc_mc.game.state.BotcGameState;
 import golden.botc_mc.botc_mc.game.state.GameLifecycleStatus;
 import xyz.nucleoid.stimuli.event.EventResult;
 import xyz.nucleoid.stimuli.event.player.PlayerDamageEvent;
@@ -51,10 +53,17 @@ public class botcActive {
     private final botcStageManager stageManager;
     private final botcSeatManager seatManager;
     private final botcTimerBar timerBar;
+    private final PlayerRecovery recovery;
+    private final SeatLayout seatLayout;
+    private final GameTeam team;
+    private final TownSidebar sidebar;
+    private final WinConditions winConditions;
+    private final ReminderExpiry reminderExpiry;
     private final ServerWorld world;
     private final Script script;
     private GameLifecycleStatus lifecycleStatus = GameLifecycleStatus.STOPPED;
     private boolean startingLogged = false;
+    private boolean released = false;
 
     private botcActive(GameSpace gameSpace, ServerWorld world, Map map, GlobalWidgets widgets,
                        Set<PlayerRef> participants, Script script) {
@@ -73,6 +82,24 @@ public class botcActive {
         this.stageManager = new botcStageManager();
         this.seatManager = new botcSeatManager();
         this.timerBar = botcTimerBar.of(widgets);
+        this.recovery = new PlayerRecovery(world, map, this.spawnLogic, this.seatManager);
+        this.seatLayout = new SeatLayout(world, map, this.seatManager, this.recovery);
+        this.team = new GameTeam(gameSpace, world.getServer().getScoreboard(), this.seatManager);
+        this.sidebar = new TownSidebar(widgets, this.seatManager);
+        this.winConditions = new WinConditions(this.seatManager, winner -> this.stageManager.requestFinish());
+        this.reminderExpiry = new ReminderExpiry(this.seatManager);
+        this.stageManager.onStateChanged(state -> {
+            // Gather the town at their seats as each day begins
+            if (state == BotcGameState.PRE_DAY || state == BotcGameState.DAY_DISCUSSION) {
+                this.seatLayout.requestSeating();
+            }
+            this.reminderExpiry.onStateChanged(state);
+            // The game can only be won once the first day has begun
+            this.winConditions.setActive(switch (state) {
+                case DAY_DISCUSSION, NOMINATION, EXECUTION, NIGHT -> true;
+                default -> false;
+            });
+        });
     }
 
     /**
@@ -130,6 +157,7 @@ public class botcActive {
 
         // Register this active game
         botc.addGame(this);
+        PlayerSessions.register(this.seatManager);
     }
 
     /** Game close hook; placeholder for teardown logic (voice region cleanup, etc.). */
@@ -142,14 +170,36 @@ public class botcActive {
         } catch (Throwable t) {
             LOG.warn("[BOTC:CLOSE] Voice region cleanup failed: {}", t.toString());
         }
+        this.release();
         // Future: flush stats, persist results, release resources.
+    }
 
-        // Unregister this active game
+    /**
+     * Release everything the game holds outside itself: seat listeners, the scoreboard team, per-player session state
+     * and its entry in the active game list. Called when the game closes, or when its world unloads without a clean
+     * close. Does nothing if already released.
+     */
+    public void release() {
+        if (this.released) {
+            return;
+        }
+        this.released = true;
+        this.seatLayout.close();
+        this.team.close();
+        this.sidebar.close();
+        this.winConditions.close();
+        this.recovery.close();
+        this.stageManager.close();
+        PlayerSessions.unregister(this.seatManager);
+
+        // Unregister this active game before telling stores, so they can see which games remain
         botc.removeGame(this);
+        PlayerSessions.onGameClosed();
     }
 
     /** Add a newly joined player (as spectator if not in participants). */
     private void addPlayer(ServerPlayerEntity player) {
+        PlayerHeadItemStack.cacheProfile(player);
         if (!this.participants.containsKey(PlayerRef.of(player)) || this.gameSpace.getPlayers().spectators().contains(player)) {
             this.spawnSpectator(player);
         }
@@ -160,20 +210,22 @@ public class botcActive {
         this.participants.remove(PlayerRef.of(player));
     }
 
-    /** Intercepts damage; prototype logic respawns player and cancels damage.
+    /** Intercepts damage; harmless damage is only cancelled, void damage returns the player to their seat.
      * Listener registration expects EventResult.DENY to suppress default handling.
      */
     private void onPlayerDamage(ServerPlayerEntity player, DamageSource source, float amount) {
-        LOG.debug("[BOTC:DAMAGE] player={} amount={} source={}", player.getGameProfile().getName(), amount, source.getName());
-        this.spawnParticipant(player);
+        if (this.recovery.onDamage(player, source)) {
+            LOG.debug("[BOTC:DAMAGE] recovered player={} source={}", player.getGameProfile().getName(), source.getName());
+        }
     }
 
-    /** Intercepts death; prototype respawn and cancels death handling.
+    /** Intercepts death; returns the player to their seat and cancels death handling.
      * Listener registration expects EventResult.DENY to suppress default handling.
      */
     private void onPlayerDeath(ServerPlayerEntity player, DamageSource source) {
         LOG.debug("[BOTC:DEATH] player={} source={}", player.getGameProfile().getName(), source.getName());
-        this.spawnParticipant(player);
+        player.setHealth(player.getMaxHealth());
+        this.recovery.recover(player);
     }
 
     /** Respawn logic for a participant (adventure mode). */
@@ -192,6 +244,11 @@ public class botcActive {
     private void tick() {
         long time = this.world.getTime();
 
+        // Push this tick's seat changes to every open grimoire in one batch
+        this.seatManager.flushChanges();
+        this.recovery.tick(time);
+        this.seatLayout.tick();
+
         botcStageManager.IdleTickResult result = this.stageManager.tick(time, gameSpace);
 
         GameLifecycleStatus currentLifecycle = this.stageManager.getLifecycleStatus();
@@ -237,20 +294,19 @@ public class botcActive {
         // TODO tick logic per state
     }
 
-    /** Broadcast the result of a finished game (placeholder win logic). */
-    private void broadcastWin(ServerPlayerEntity winner) {
+    /** Broadcast the result of a finished game. */
+    private void broadcastWin(Team.Alignment winner) {
         Text message = (winner != null)
-                ? Text.literal(winner.getGameProfile().getName() + " has won the game!").formatted(Formatting.GOLD)
-                : Text.literal("The game ended, but nobody won!").formatted(Formatting.GOLD);
+                ? Text.translatable("gui.botc-mc.win", winner.toText().formatted(winner.getColour(false))).formatted(Formatting.GOLD)
+                : Text.translatable("gui.botc-mc.win.none").formatted(Formatting.GOLD);
         PlayerSet players = this.gameSpace.getPlayers();
         players.sendMessage(message);
         players.playSound(SoundEvents.ENTITY_VILLAGER_YES);
     }
 
-    /** Compute a win result: trivial prototype selects sole remaining participant if only one remains. */
-    private ServerPlayerEntity determineWinner() {
-        var participantEntities = this.gameSpace.getPlayers().participants();
-        return participantEntities.size() == 1 ? participantEntities.iterator().next() : null;
+    /** Get the winning alignment, or null if the game ended without a winner, such as by running out of time. */
+    private Team.Alignment determineWinner() {
+        return this.winConditions.getWinner();
     }
 
     /** React to lifecycle state changes (logging and starting hooks). */
@@ -277,11 +333,21 @@ public class botcActive {
         itemManager.giveStarterItems(this.gameSpace, this.script);
     }
 
+    /** Get the world this active game is played in. */
+    public ServerWorld getWorld() {
+        return this.world;
+    }
+
     /** Get the SeatManager for this active game. */
     public botcSeatManager getSeatManager() {
         return this.seatManager;
     }
 
+    /** Get the win conditions for this active game. */
+    public WinConditions getWinConditions() {
+        return this.winConditions;
+    }
+
     /** Get the participant map for this active game. */
     public Object2ObjectMap<PlayerRef, botcPlayer> getParticipants() {
         return this.participants;
@@ -183,9 +183,48 @@ public record botcCharacter(String id,
         return this.id.equals(other.id);
     }
 
-    public record ReminderToken(botcCharacter character, String reminder, boolean global) {
+    public record ReminderToken(botcCharacter character, String reminder, boolean global, Lifetime lifetime) {
         public static final ReminderToken CUSTOM = new ReminderToken(botcCharacter.EMPTY, "Custom", false);
 
+        /**
+         * How long a reminder stays on a seat before it is removed automatically.
+         */
+        public enum Lifetime {
+            /** Removed when the next day begins. */
+            UNTIL_DAWN,
+            /** Removed when the next night begins. */
+            UNTIL_DUSK,
+            /** Kept through the next night, and removed when the day after it begins. */
+            UNTIL_NEXT_NIGHT,
+            /** Only removed by hand. */
+            PERMANENT;
+
+            /**
+             * Get the lifetime after this one, for cycling through lifetimes in the grimoire.
+             * @return The next lifetime.
+             */
+            public Lifetime next() {
+                return values()[(this.ordinal() + 1) % values().length];
+            }
+
+            public Text toText() {
+                return Text.translatable("gui.botc-mc.reminder.lifetime." + this.name().toLowerCase(java.util.Locale.ROOT));
+            }
+        }
+
+        public ReminderToken(botcCharacter character, String reminder, boolean global) {
+            this(character, reminder, global, Lifetime.PERMANENT);
+        }
+
+        /**
+         * Get a copy of this token with a different lifetime.
+         * @param lifetime The lifetime.
+         * @return The token with the given lifetime.
+         */
+        public ReminderToken withLifetime(Lifetime lifetime) {
+            return lifetime == this.lifetime ? this : new ReminderToken(this.character, this.reminder, this.global, lifetime);
+        }
+
         public Text toText() {
             return Text.translatable(this.reminder().replace('\n', ' '));
         }
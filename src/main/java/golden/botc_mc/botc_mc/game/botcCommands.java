@@ -8,24 +8,21 @@ import golden.botc_mc.botc_mc.game.exceptions.InvalidAlignmentException;
 import golden.botc_mc.botc_mc.game.exceptions.InvalidSeatException;
 import golden.botc_mc.botc_mc.game.gui.GrimoireGUI;
 import golden.botc_mc.botc_mc.game.gui.TokenItemStack;
-import golden.botc_mc.botc_mc.game.map.Map;
+import golden.botc_mc.botc_mc.game.map.MapCatalog;
+import golden.botc_mc.botc_mc.game.map.MapTemplateCache;
 import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
 import golden.botc_mc.botc_mc.game.seat.Seat;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.minecraft.command.argument.EntityArgumentType;
-import net.minecraft.resource.Resource;
 import net.minecraft.command.argument.IdentifierArgumentType;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
-import net.minecraft.util.Identifier;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
-import java.util.TreeMap;
 
 import static net.minecraft.server.command.CommandManager.literal;
 
@@ -98,6 +95,15 @@ public final class botcCommands {
             );
 
 
+            // /botc debug sessions: per-player state held by each subsystem
+            root.then(literal("debug").then(literal("sessions").executes(ctx -> {
+                java.util.Map<String, int[]> counts = PlayerSessions.counts();
+                ctx.getSource().sendFeedback(() -> Text.literal("----- BOTC Sessions -----"), false);
+                counts.forEach((name, count) -> ctx.getSource().sendFeedback(() -> Text.literal(
+                        " - " + name + ": " + count[0] + " entries" + (count[1] > 1 ? " in " + count[1] + " stores" : "")), false));
+                return counts.size();
+            })));
+
             // Get running games info
             root.then(literal("games").executes(ctx -> {
                 List<botcActive> activeGames = botc.getActiveGames();
@@ -269,6 +275,7 @@ public final class botcCommands {
                     literal("set").then(
                             CommandManager.argument("player", EntityArgumentType.player()).then(
                                     CommandManager.argument("character", StringArgumentType.word())
+                                            .suggests(CharacterSearchIndex.suggestions())
                                             .executes(ctx -> {
                                                 ServerPlayerEntity player = EntityArgumentType.getPlayer(ctx, "player");
                                                 botcActive activeGame = botc.getActiveGameFromPlayer(player);
@@ -346,6 +353,30 @@ public final class botcCommands {
                         }
                     })));
 
+            // Execute a player, which can end the game
+            root.then(literal("execute").then(
+                    CommandManager.argument("player", EntityArgumentType.player()).executes(ctx -> {
+                        ServerPlayerEntity player = EntityArgumentType.getPlayer(ctx, "player");
+                        botcActive activeGame = botc.getActiveGameFromPlayer(player);
+                        if (activeGame == null || player == null) {
+                            ctx.getSource().sendError(Text.translatable("commands.botc-mc.no_game.target", player.getName()));
+                            return 0;
+                        }
+                        PlayerSeat seat = activeGame.getSeatManager().getPlayerSeatFromPlayer(player);
+                        if (seat == null) {
+                            ctx.getSource().sendError(Text.translatable("commands.botc-mc.no_seat.target", player.getName()));
+                            return 0;
+                        }
+                        if (seat.kill()) {
+                            activeGame.getWinConditions().onExecuted(seat);
+                            ctx.getSource().sendFeedback(() -> Text.translatable("commands.botc-mc.execute.success", player.getName()), true);
+                            return 1;
+                        } else {
+                            ctx.getSource().sendError(Text.translatable("commands.botc-mc.execute.failure", player.getName()));
+                            return 0;
+                        }
+                    })));
+
             // Toggle a player's alignment
             root.then(literal("alignment").then(
                     CommandManager.argument("player", EntityArgumentType.player()).then(
@@ -489,6 +520,7 @@ public final class botcCommands {
             root.then(literal("npc")
                     .then(literal("add")
                             .then(CommandManager.argument("npc", StringArgumentType.word())
+                                    .suggests(CharacterSearchIndex.suggestions())
                                     .executes(ctx -> {
                                         ServerPlayerEntity player = ctx.getSource().getPlayer();
                                         if (player == null) {
@@ -550,7 +582,7 @@ public final class botcCommands {
                             .then(
                                 CommandManager.argument("mapId", StringArgumentType.word())
                                     .suggests((context, builder) -> {
-                                        buildMapSuggestions(context.getSource(), builder);
+                                        buildMapSuggestions(builder);
                                         return builder.buildFuture();
                                     })
                                     .executes(ctx -> executeMapSet(ctx.getSource(), StringArgumentType.getString(ctx, "mapId")))
@@ -558,6 +590,24 @@ public final class botcCommands {
                     )
             );
 
+            // /botc map cache
+            root.then(literal("map").then(literal("cache").executes(ctx -> {
+                List<MapTemplateCache.Usage> usage = MapTemplateCache.usage();
+                if (usage.isEmpty()) {
+                    ctx.getSource().sendFeedback(() -> Text.literal("No map templates cached."), false);
+                    return 0;
+                }
+                long total = 0;
+                for (MapTemplateCache.Usage entry : usage) {
+                    total += entry.approxBytes();
+                    ctx.getSource().sendFeedback(() -> Text.literal(" - " + entry.templateId() + ": " + entry.sections()
+                            + " sections, ~" + entry.approxBytes() / 1024 + " KiB" + (entry.pinned() ? " (warm)" : "")), false);
+                }
+                long totalKib = total / 1024;
+                ctx.getSource().sendFeedback(() -> Text.literal(usage.size() + " templates cached, ~" + totalKib + " KiB"), false);
+                return usage.size();
+            })));
+
             root.then(literal("gui").executes(ctx -> {
                 ServerPlayerEntity player = ctx.getSource().getPlayer();
                 if (player == null) {
@@ -602,6 +652,7 @@ public final class botcCommands {
                             })));
 
             root.then(literal("token").then(CommandManager.argument("character", StringArgumentType.word())
+                .suggests(CharacterSearchIndex.suggestions())
                 .executes(ctx -> {
                     ServerCommandSource src = ctx.getSource();
                     if (!(src.getEntity() instanceof ServerPlayerEntity player)) {
@@ -628,90 +679,16 @@ public final class botcCommands {
     }
 
     /**
-     * Build map suggestions from data/botc-mc/map_config/*.json resources.
-     * Extracts map names and tooltips showing the template they resolve to.
-     * @param source command source for accessing the server's resource manager
+     * Build map suggestions from the map catalog, with tooltips showing the template each map resolves to.
      * @param builder suggestion builder to populate
      */
-    private static void buildMapSuggestions(ServerCommandSource source, com.mojang.brigadier.suggestion.SuggestionsBuilder builder) {
-        var server = source.getServer();
-        var rm = server.getResourceManager();
-        java.util.Map<String, Text> suggestions = new TreeMap<>();
-
-        try {
-            var found = rm.findResources("map_config", path -> path.toString().endsWith(".json"));
-            for (java.util.Map.Entry<Identifier, Resource> entry : found.entrySet()) {
-                String name = extractMapName(entry.getKey());
-                String tooltip = buildMapTooltip(name, entry.getValue());
-                suggestions.put(name, Text.literal(tooltip));
-            }
-        } catch (Exception ignored) {
-            // Silent fail - no suggestions if resource loading fails
-        }
-
-        // If no datapack resources found (or to supplement), also check local maps/map_config on disk
-        try {
-            java.nio.file.Path localDir = java.nio.file.Paths.get("maps", "map_config");
-            if (java.nio.file.Files.exists(localDir) && java.nio.file.Files.isDirectory(localDir)) {
-                try (var stream = java.nio.file.Files.list(localDir)) {
-                    stream.filter(p -> p.getFileName().toString().endsWith(".json")).forEach(p -> {
-                        String fileName = p.getFileName().toString();
-                        String name = fileName.substring(0, fileName.length() - 5);
-                        try {
-                            String json = java.nio.file.Files.readString(p);
-                            String template = Map.extractJsonField(json, "template");
-                            String tooltip = "Configured map: " + name + (template != null ? " -> template " + template : "");
-                            suggestions.putIfAbsent(name, Text.literal(tooltip));
-                        } catch (IOException ignored) {}
-                    });
-                }
-            }
-        } catch (Exception ignored) {
-            // ignore local filesystem errors
-        }
-
-        for (java.util.Map.Entry<String, Text> s : suggestions.entrySet()) {
-            builder.suggest(s.getKey(), s.getValue());
-        }
-    }
-
-    /**
-     * Extract the simple map name from a resource identifier.
-     * Example: botc-mc:map_config/map1.json -> map1
-     * @param id resource identifier
-     * @return simple map name without a path or extension
-     */
-    private static String extractMapName(Identifier id) {
-        String path = id.getPath();
-        int slash = path.lastIndexOf('/');
-        String file = slash >= 0 ? path.substring(slash + 1) : path;
-        return file.endsWith(".json") ? file.substring(0, file.length() - 5) : file;
-    }
-
-    /**
-     * Build a tooltip string for a map config by reading its template field.
-     * @param name map name
-     * @param resource map config resource
-     * @return tooltip string
-     */
-    private static String buildMapTooltip(String name, Resource resource) {
-        String tooltipStr = "Configured map: " + name;
-        try (InputStream in = resource.getInputStream()) {
-            if (in != null) {
-                String json = new String(in.readAllBytes());
-                String template = Map.extractJsonField(json, "template");
-                // legacy 'map_id' fallback removed; only 'template' is supported now
-                if (template != null) {
-                    tooltipStr = tooltipStr + " -> template " + template;
-                }
-            }
-        } catch (IOException ignored) {
-            // Silent fail - return basic tooltip if JSON reading fails
+    private static void buildMapSuggestions(com.mojang.brigadier.suggestion.SuggestionsBuilder builder) {
+        for (MapCatalog.Entry entry : MapCatalog.all().values()) {
+            String tooltip = "Configured map: " + entry.displayName() + " -> template " + entry.templateId();
+            builder.suggest(entry.name(), Text.literal(tooltip));
         }
-        return tooltipStr;
     }
 
-
     /**
      * Execute the /botc map set command.
      * @param source command source
@@ -1,6 +1,5 @@
 package golden.botc_mc.botc_mc.game;
 
-import golden.botc_mc.botc_mc.botc;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.DyedColorComponent;
 import net.minecraft.component.type.TooltipDisplayComponent;
@@ -27,11 +26,7 @@ public class botcItemManager {
         ItemStack stack = new ItemStack(Items.WRITTEN_BOOK);
 
         // Written book content
-        ScriptBookGenerator bookPregenerator = new ScriptBookGenerator(script, null);
-        bookPregenerator.generateWrittenBook();
-        botc.LOGGER.info(bookPregenerator.getBookmarks());
-        ScriptBookGenerator bookGenerator = new ScriptBookGenerator(script, bookPregenerator.getBookmarks());
-        WrittenBookContentComponent contentComponent = bookGenerator.generateWrittenBook();
+        WrittenBookContentComponent contentComponent = ScriptBookGenerator.getOrGenerate(script);
         stack.set(DataComponentTypes.WRITTEN_BOOK_CONTENT, contentComponent);
         // Custom color
         if (script.meta().colour() != null) {
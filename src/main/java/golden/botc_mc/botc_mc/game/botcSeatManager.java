@@ -9,11 +9,14 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import static java.lang.Math.floorMod;
 
-public class botcSeatManager {
+public class botcSeatManager implements PlayerSessions.Store {
     private final List<PlayerSeat> playerSeats = new ArrayList<>();
     private final List<StorytellerSeat> storytellerSeats = new ArrayList<>();
     private final List<botcCharacter> npcCharacters = new ArrayList<>();
@@ -22,6 +25,13 @@ public class botcSeatManager {
     public static final int MAX_PLAYERS = 18;
     public static final int MAX_STORYTELLERS = 3;
 
+    private final List<SeatListener> listeners = new ArrayList<>();
+    // Changes since the last flush, delivered to listeners once per tick
+    private final Set<Seat> dirtySeats = new LinkedHashSet<>();
+    private boolean rearranged = false;
+    // Seats holding each reminder
+    private final ReminderIndex reminderIndex = new ReminderIndex();
+
     // Constructor for default 8 player seats
     public botcSeatManager() {
         this(8); // Default to 8 player seats
@@ -32,9 +42,89 @@ public class botcSeatManager {
      * @param numPlayerSeats Number of player seats to initialise.
      */
     public botcSeatManager(int numPlayerSeats) {
-        this.storytellerSeats.add(new StorytellerSeat());
+        this.storytellerSeats.add(track(new StorytellerSeat()));
         for (int i = 0; i < numPlayerSeats; i++) {
-            this.playerSeats.add(new PlayerSeat());
+            this.playerSeats.add(track(new PlayerSeat()));
+        }
+    }
+
+    /**
+     * Listener for changes to the seats of a game, such as an open grimoire.
+     * Changes are coalesced and delivered at most once per tick by {@link #flushChanges()}.
+     */
+    public interface SeatListener {
+        /**
+         * Called with every seat whose occupant, character, alignment, life, ghost vote or reminders changed
+         * since the last flush.
+         * @param seats The seats that changed, each listed once.
+         */
+        void onSeatsChanged(Set<Seat> seats);
+
+        /**
+         * Called instead of {@link #onSeatsChanged(Set)} if seats were added, removed or reordered, or the NPCs
+         * changed since the last flush.
+         */
+        void onSeatsRearranged();
+    }
+
+    /**
+     * Registers a listener to be notified of seat changes.
+     * @param listener The listener to add.
+     */
+    public void addListener(SeatListener listener) {
+        if (!this.listeners.contains(listener)) {
+            this.listeners.add(listener);
+        }
+    }
+
+    /**
+     * Unregisters a seat change listener.
+     * @param listener The listener to remove.
+     */
+    public void removeListener(SeatListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    private <T extends Seat> T track(T seat) {
+        seat.setChangeListener(this::fireSeatChanged);
+        if (seat instanceof PlayerSeat playerSeat) {
+            playerSeat.setReminderListener(this.reminderIndex);
+        }
+        return seat;
+    }
+
+    private void untrack(PlayerSeat seat) {
+        this.reminderIndex.removeSeat(seat);
+        seat.setReminderListener(null);
+    }
+
+    private void fireSeatChanged(Seat seat) {
+        this.dirtySeats.add(seat);
+    }
+
+    private void fireSeatsChanged() {
+        this.rearranged = true;
+    }
+
+    /**
+     * Delivers the changes made since the last flush to every listener as a single batch.
+     * Called once per tick by the active game.
+     */
+    public void flushChanges() {
+        if (!this.rearranged && this.dirtySeats.isEmpty()) {
+            return;
+        }
+        boolean wasRearranged = this.rearranged;
+        Set<Seat> changed = Collections.unmodifiableSet(new LinkedHashSet<>(this.dirtySeats));
+        this.rearranged = false;
+        this.dirtySeats.clear();
+        // Copied so listeners can unregister, e.g. by reopening, while being notified
+        for (SeatListener listener : List.copyOf(this.listeners)) {
+            if (wasRearranged) {
+                listener.onSeatsRearranged();
+            } else {
+                listener.onSeatsChanged(changed);
+            }
         }
     }
 
@@ -48,8 +138,9 @@ public class botcSeatManager {
             throw new IllegalArgumentException("Count must be between " + MIN_PLAYERS + " and " + MAX_PLAYERS);
         }
         // Add seats until we reach the desired count
+        int initialCount = this.playerSeats.size();
         while (this.playerSeats.size() < count) {
-            this.playerSeats.add(new PlayerSeat());
+            this.playerSeats.add(track(new PlayerSeat()));
         }
 
         // Remove seats with no player, no character, and no reminders first
@@ -58,6 +149,7 @@ public class botcSeatManager {
             if (seat.getPlayerEntity() == null && seat.getCharacter() == botcCharacter.EMPTY && seat.getReminders().isEmpty()) {
                 seat.clearCharacter();
                 seat.removePlayerEntity();
+                untrack(seat);
                 this.playerSeats.remove(i);
             }
         }
@@ -67,6 +159,7 @@ public class botcSeatManager {
             if (seat.getPlayerEntity() == null) {
                 seat.clearCharacter();
                 seat.removePlayerEntity();
+                untrack(seat);
                 this.playerSeats.remove(i);
             }
         }
@@ -74,7 +167,53 @@ public class botcSeatManager {
         while (this.playerSeats.size() > count) {
             this.playerSeats.getLast().clearCharacter();
             this.playerSeats.getLast().removePlayerEntity();
-            this.playerSeats.removeLast();
+            untrack(this.playerSeats.removeLast());
+        }
+        if (count != initialCount) {
+            fireSeatsChanged();
+        }
+    }
+
+    /**
+     * Gets the index of which seats hold each reminder.
+     * @return The reminder index.
+     */
+    public ReminderIndex getReminderIndex() {
+        return this.reminderIndex;
+    }
+
+    @Override
+    public String name() {
+        return "seats";
+    }
+
+    /**
+     * Gets the number of seats, player or storyteller, holding a player.
+     * @return Number of occupied seats.
+     */
+    @Override
+    public int size() {
+        int occupied = 0;
+        for (Seat seat : this.playerSeats) {
+            if (seat.hasPlayerEntity()) occupied++;
+        }
+        for (Seat seat : this.storytellerSeats) {
+            if (seat.hasPlayerEntity()) occupied++;
+        }
+        return occupied;
+    }
+
+    /**
+     * Releases a disconnected player's seat, keeping the seat's character and tokens for whoever sits next.
+     * @param player The UUID of the player.
+     */
+    @Override
+    public void evict(UUID player) {
+        for (Seat seat : this.playerSeats) {
+            if (seat.hasPlayerEntity() && seat.getPlayerEntity().getUuid().equals(player)) seat.removePlayerEntity();
+        }
+        for (Seat seat : this.storytellerSeats) {
+            if (seat.hasPlayerEntity() && seat.getPlayerEntity().getUuid().equals(player)) seat.removePlayerEntity();
         }
     }
 
@@ -235,9 +374,10 @@ public class botcSeatManager {
         } catch (InvalidSeatException e) {
             // Player was not assigned to any seat, ignore
         }
-        StorytellerSeat newSeat = new StorytellerSeat();
-        newSeat.setPlayerEntity(player);
+        StorytellerSeat newSeat = track(new StorytellerSeat());
         this.storytellerSeats.add(newSeat);
+        newSeat.setPlayerEntity(player);
+        fireSeatsChanged();
         return newSeat;
     }
 
@@ -269,6 +409,14 @@ public class botcSeatManager {
         return index + 1; // Convert to 1-based index
     }
 
+    /**
+     * Gets the player seats in seat order.
+     * @return Unmodifiable view of the PlayerSeat objects, index 0 being seat 1.
+     */
+    public List<PlayerSeat> getPlayerSeats() {
+        return Collections.unmodifiableList(this.playerSeats);
+    }
+
     /**
      * Gets the list of storyteller seats.
      * @return List of StorytellerSeat objects.
@@ -291,6 +439,7 @@ public class botcSeatManager {
      */
     public void addNPC(botcCharacter character) {
         this.npcCharacters.add(character);
+        fireSeatsChanged();
     }
 
     /**
@@ -299,7 +448,11 @@ public class botcSeatManager {
      * @return True if the character was removed, false otherwise.
      */
     public boolean removeNPC(botcCharacter character) {
-        return this.npcCharacters.remove(character);
+        if (!this.npcCharacters.remove(character)) {
+            return false;
+        }
+        fireSeatsChanged();
+        return true;
     }
 
     /**
@@ -307,6 +460,7 @@ public class botcSeatManager {
      */
     public void shuffle() {
         Collections.shuffle(this.playerSeats);
+        fireSeatsChanged();
     }
 
     /**
@@ -321,7 +475,8 @@ public class botcSeatManager {
         if (this.playerSeats.size() >= MAX_PLAYERS) {
             throw new IllegalArgumentException("Cannot have more than " + MAX_PLAYERS + " player seats.");
         }
-        this.playerSeats.add(seatNumber - 1, new PlayerSeat());
+        this.playerSeats.add(seatNumber - 1, track(new PlayerSeat()));
+        fireSeatsChanged();
     }
 
     /**
@@ -336,7 +491,10 @@ public class botcSeatManager {
         if (this.playerSeats.size() <= MIN_PLAYERS) {
             throw new IllegalArgumentException("Cannot have fewer than " + MIN_PLAYERS + " player seats.");
         }
-        this.playerSeats.remove(seatNumber - 1);
+        PlayerSeat removed = this.playerSeats.remove(seatNumber - 1);
+        removed.setChangeListener(seat -> {});
+        untrack(removed);
+        fireSeatsChanged();
     }
 
     /**
@@ -355,6 +513,7 @@ public class botcSeatManager {
         }
         PlayerSeat seat = this.playerSeats.remove(from - 1);
         this.playerSeats.add(to - 1, seat);
+        fireSeatsChanged();
     }
 
     @Override
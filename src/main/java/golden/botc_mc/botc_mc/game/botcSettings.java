@@ -44,6 +44,8 @@ public final class botcSettings {
     public String mapId = "botc-mc:test";
     /** Fallback spawn position if map lacks defined spawn. */
     public BlockPos fallbackSpawn = new BlockPos(0, 65, 0);
+    /** Load configured map templates into the template cache when the server starts. */
+    public boolean preloadMaps = false;
 
     /**
      * Load settings from disk or create defaults if the file is missing.
@@ -68,6 +70,7 @@ public final class botcSettings {
                 s.nightSecs = parseInt(p.getProperty("nightSecs"), s.nightSecs);
                 s.mapId = p.getProperty("mapId", s.mapId);
                 s.fallbackSpawn = parseBlockPos(p.getProperty("fallbackSpawn"), s.fallbackSpawn);
+                s.preloadMaps = Boolean.parseBoolean(p.getProperty("preloadMaps", Boolean.toString(s.preloadMaps)));
             } else {
                 // ensure parent directory exists and write defaults
                 if (CONFIG_PATH.getParent() != null) Files.createDirectories(CONFIG_PATH.getParent());
@@ -96,6 +99,7 @@ public final class botcSettings {
         p.setProperty("nightSecs", Integer.toString(this.nightSecs));
         p.setProperty("mapId", this.mapId);
         p.setProperty("fallbackSpawn", formatBlockPos(this.fallbackSpawn));
+        p.setProperty("preloadMaps", Boolean.toString(this.preloadMaps));
 
         if (CONFIG_PATH.getParent() != null) Files.createDirectories(CONFIG_PATH.getParent());
         try (OutputStream out = Files.newOutputStream(CONFIG_PATH)) {
@@ -5,9 +5,13 @@ import golden.botc_mc.botc_mc.game.state.BotcGameState;
 import golden.botc_mc.botc_mc.game.state.BotcStateContext;
 import golden.botc_mc.botc_mc.game.state.BotcStateMachine;
 import golden.botc_mc.botc_mc.game.state.GameLifecycleStatus;
-import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import golden.botc_mc.botc_mc.botc;
+import net.minecraft.entity.attribute.EntityAttribute;
+import net.minecraft.entity.attribute.EntityAttributeInstance;
+import net.minecraft.entity.attribute.EntityAttributeModifier;
+import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.player.PlayerPosition;
+import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.text.Text;
 import xyz.nucleoid.plasmid.api.game.GameSpace;
@@ -16,10 +20,13 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.network.packet.s2c.play.PositionFlag;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.GameMode;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Manages timed transitions between game states and lobby lifecycle.
@@ -36,8 +43,13 @@ public class botcStageManager {
     public long finishTime = -1;
     /** Tick time when game session opens. */
     private long startTime = -1;
-    /** Frozen positional snapshot for players during certain phases. */
-    private final Object2ObjectMap<ServerPlayerEntity, FrozenPlayer> frozen;
+    /** Frozen positional snapshot for players during the start countdown; cleared when it ends. */
+    private final PlayerSessions.SessionMap<FrozenPlayer> frozen;
+    /** Distance squared a frozen player may drift before being teleported back. */
+    private static final double FREEZE_TOLERANCE_SQ = 0.01;
+    /** Modifier multiplying movement speed and jump strength by zero while frozen. */
+    private static final EntityAttributeModifier FREEZE_MODIFIER = new EntityAttributeModifier(
+            Identifier.of(botc.ID, "pregame_freeze"), -1.0, EntityAttributeModifier.Operation.ADD_MULTIPLIED_TOTAL);
     /** Prevent spectator mode from being set multiple times. */
     private boolean setSpectator = false;
     /** State machine driving game state transitions. */
@@ -50,12 +62,14 @@ public class botcStageManager {
     // track whether any players have been present since the game opened
     /** Track whether any players have been present since the game opened. */
     private boolean hadPlayers = false;
+    /** Set when the game has been won, finishing it on the next tick. */
+    private boolean finishRequested = false;
     /** Current lifecycle status (lobby, running, finished, closed). */
     private GameLifecycleStatus lifecycleStatus = GameLifecycleStatus.STOPPED;
 
     /** Default constructor initializes idle lobby state. */
     public botcStageManager() {
-        this.frozen = new Object2ObjectOpenHashMap<>();
+        this.frozen = PlayerSessions.newMap("stage.frozen", botcSeatManager.MAX_PLAYERS * 4);
         this.stateMachine = new BotcStateMachine(DEFAULT_PHASES); // removed defaults() reference
         this.stateMachine.onStateChanged(this::handleStateChanged);
     }
@@ -68,6 +82,14 @@ public class botcStageManager {
         return this.stateMachine.getCurrentState();
     }
 
+    /**
+     * Listen for game state changes, such as the start of each day.
+     * @param listener consumer receiving the new state
+     */
+    public void onStateChanged(Consumer<BotcGameState> listener) {
+        this.stateMachine.onStateChanged(listener);
+    }
+
     /**
      * Retrieves the current lifecycle status (lobby, running, finished, or closed).
      * @return lifecycle status of the game
@@ -184,18 +206,20 @@ public class botcStageManager {
             this.tickStartWaiting(time, space);
             return IdleTickResult.TICK_FINISHED;
         }
+        this.releaseFrozen();
         // Finish condition (time limit or empty players after start)
         boolean finishedByTime = time > this.finishTime;
         boolean finishedByEmpty = (space.getPlayers().isEmpty() && this.hadPlayers);
-        if (finishedByTime || finishedByEmpty) {
+        if (finishedByTime || finishedByEmpty || this.finishRequested) {
             if (!this.setSpectator) {
                 this.setSpectator = true;
                 for (ServerPlayerEntity player : space.getPlayers()) player.changeGameMode(GameMode.SPECTATOR);
             }
             this.closeTime = time + (5 * 20);
             this.lifecycleStatus = GameLifecycleStatus.STOPPING;
-            System.out.println("[BOTC] startTime=" + this.startTime + " finishTime=" + this.finishTime + " closeTime=" + this.closeTime + " now=" + time + " players=" + space.getPlayers().participants().size() + " hadPlayers=" + this.hadPlayers);
-            if (this.stateContext != null) { // fixed malformed if syntax
+            botc.LOGGER.debug("Finishing game: startTime={} finishTime={} closeTime={} now={} players={} hadPlayers={}",
+                    this.startTime, this.finishTime, this.closeTime, time, space.getPlayers().participants().size(), this.hadPlayers);
+            if (this.stateContext != null && !this.finishRequested) {
                 String reason = finishedByEmpty ? "No players remain; closing game." : "Game time finished; closing game.";
                 this.stateContext.broadcast(Text.literal(reason));
             }
@@ -218,7 +242,10 @@ public class botcStageManager {
         // context propagation removed earlier intentionally
     }
 
-    /** Countdown display / player freezing logic during pre-start waiting. */
+    /** Countdown display / player freezing logic during pre-start waiting.
+     * Frozen players get zero movement speed and jump strength, so clients stay put on their own; a teleport is
+     * only sent to correct a player who moved anyway, e.g. by being pushed.
+     */
     private void tickStartWaiting(long time, GameSpace space) {
         float sec_f = (this.startTime - time) / 20.0f;
 
@@ -228,10 +255,18 @@ public class botcStageManager {
                     continue;
                 }
 
-                FrozenPlayer state = this.frozen.computeIfAbsent(player, p -> new FrozenPlayer());
-
-                if (state.lastPos == null) {
+                FrozenPlayer state = this.frozen.get(player.getUuid());
+                if (state == null) {
+                    state = new FrozenPlayer();
+                    state.player = player;
                     state.lastPos = player.getPos();
+                    this.frozen.put(player.getUuid(), state);
+                    setFrozenAttributes(player, true);
+                    continue;
+                }
+
+                if (player.getPos().squaredDistanceTo(state.lastPos) <= FREEZE_TOLERANCE_SQ) {
+                    continue;
                 }
 
                 // Set X and Y as relative so it will send 0 change when we pass yaw (yaw - yaw = 0) and pitch
@@ -240,6 +275,8 @@ public class botcStageManager {
                 // Teleport without changing the pitch and yaw
                 player.networkHandler.requestTeleport(new PlayerPosition(state.lastPos, Vec3d.ZERO, 0, 0), flags);
             }
+        } else {
+            this.releaseFrozen();
         }
 
         int sec = (int) Math.floor(sec_f) - 1;
@@ -257,10 +294,50 @@ public class botcStageManager {
         }
     }
 
+    /** Finish the game on the next tick, such as when a team has won. The winner is announced by the caller. */
+    public void requestFinish() {
+        this.finishRequested = true;
+    }
+
+    /** Release per-player state. Called when the game closes. */
+    public void close() {
+        this.releaseFrozen();
+        PlayerSessions.unregister(this.frozen);
+    }
+
+    /** Unfreeze every frozen player and forget their positions. */
+    private void releaseFrozen() {
+        if (this.frozen.isEmpty()) {
+            return;
+        }
+        for (FrozenPlayer state : this.frozen.values()) {
+            setFrozenAttributes(state.player, false);
+        }
+        this.frozen.clear();
+    }
+
+    /** Add or remove the attribute modifiers that stop a player from walking and jumping. */
+    private static void setFrozenAttributes(ServerPlayerEntity player, boolean frozen) {
+        for (RegistryEntry<EntityAttribute> attribute : List.of(EntityAttributes.MOVEMENT_SPEED, EntityAttributes.JUMP_STRENGTH)) {
+            EntityAttributeInstance instance = player.getAttributeInstance(attribute);
+            if (instance == null) {
+                continue;
+            }
+            // Temporary, so a player disconnecting mid-countdown is not saved frozen
+            if (frozen) {
+                if (!instance.hasModifier(FREEZE_MODIFIER.id())) instance.addTemporaryModifier(FREEZE_MODIFIER);
+            } else {
+                instance.removeModifier(FREEZE_MODIFIER.id());
+            }
+        }
+    }
+
     /** Snapshot of a frozen player's last position. */
     public static class FrozenPlayer {
         /** Default constructor creates an empty positional snapshot holder. */
         public FrozenPlayer() {}
+        /** The frozen player. */
+        public ServerPlayerEntity player;
         /** Last recorded position used to keep player visually stationary. */
         public Vec3d lastPos;
     }
@@ -8,7 +8,10 @@ import xyz.nucleoid.fantasy.RuntimeWorldConfig;
 import xyz.nucleoid.plasmid.api.game.*;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.world.GameMode;
+import golden.botc_mc.botc_mc.game.gui.PlayerHeadItemStack;
+import golden.botc_mc.botc_mc.game.map.ChunkPregenerator;
 import golden.botc_mc.botc_mc.game.map.Map;
+import golden.botc_mc.botc_mc.game.map.MapCatalog;
 import net.minecraft.util.Identifier;
 import xyz.nucleoid.plasmid.api.game.event.GameActivityEvents;
 import xyz.nucleoid.plasmid.api.game.event.GamePlayerEvents;
@@ -69,6 +72,14 @@ public class botcWaiting {
 
             game.setRule(GameRuleType.FALL_DAMAGE, EventResult.DENY);
 
+            // Warm maps generate their chunks while waiting for players
+            MapCatalog.Entry catalogEntry = MapCatalog.get(mapId.toString());
+            if (catalogEntry != null && catalogEntry.warm()) {
+                ChunkPregenerator pregenerator = ChunkPregenerator.of(world, map);
+                game.listen(GameActivityEvents.TICK, pregenerator::tick);
+                game.listen(GameActivityEvents.DISABLE, pregenerator::release);
+            }
+
             game.listen(GameActivityEvents.REQUEST_START, waiting::requestStart);
             game.listen(GamePlayerEvents.ADD, waiting::addPlayer);
             game.listen(GamePlayerEvents.OFFER, JoinOffer::accept);
@@ -89,6 +100,7 @@ public class botcWaiting {
 
     /** Add a player to the lobby (respawns them). */
     private void addPlayer(ServerPlayerEntity player) {
+        PlayerHeadItemStack.cacheProfile(player);
         this.spawnPlayer(player);
     }
 
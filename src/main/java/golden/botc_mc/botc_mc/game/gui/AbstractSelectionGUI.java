@@ -1,7 +1,10 @@
 package golden.botc_mc.botc_mc.game.gui;
 
 import eu.pb4.sgui.api.elements.GuiElementInterface;
+import eu.pb4.sgui.api.gui.SignGui;
 import eu.pb4.sgui.api.gui.SimpleGui;
+import golden.botc_mc.botc_mc.game.PrefixIndex;
+import net.minecraft.block.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.screen.GenericContainerScreenHandler;
 import net.minecraft.screen.ScreenHandlerType;
@@ -12,8 +15,9 @@ import java.util.List;
 import java.util.function.Function;
 
 /**
- * Abstract GUI for selecting an item from a list with pagination support.
- * Handles displaying items, pagination buttons, and cancel button.
+ * Abstract GUI for selecting an item from a list with pagination and search support.
+ * Handles displaying items, pagination buttons, search and cancel button. Turning a page or searching only rewrites
+ * the item slots of the open GUI.
  * @param <T> The type of items to select from.
  */
 public abstract class AbstractSelectionGUI<T> extends SimpleGui {
@@ -21,7 +25,11 @@ public abstract class AbstractSelectionGUI<T> extends SimpleGui {
     protected final List<T> items;
     protected final Function<T, ?> onSelectItem;
     protected final Runnable onCancel;
-    protected final int page;
+    protected int page;
+    // Items matching the current search, or all items if there is no search
+    private List<T> shown;
+    private String query = "";
+    private PrefixIndex<T> searchIndex;
 
     /**
      * Constructor for AbstractSelectionGUI.
@@ -39,6 +47,7 @@ public abstract class AbstractSelectionGUI<T> extends SimpleGui {
         this.setTitle(Text.translatable("gui.botc-mc.selection"));
 
         this.items = items;
+        this.shown = items;
         this.onSelectItem = onSelectItem;
         this.onCancel = onCancel;
         this.page = page;
@@ -47,37 +56,94 @@ public abstract class AbstractSelectionGUI<T> extends SimpleGui {
 
     @Override
     public void beforeOpen() {
-        int pages = getPageCount();
+        // Search button
+        GuiElementInterface.ClickCallback searchCallback = (i, c, a, g) -> new SearchBox(this).open();
+        this.setSlot(9 * this.getHeight() - 3, ButtonBuilder.buildButton(
+                Text.translatable("gui.botc-mc.search"), ButtonIcon.SEARCH, searchCallback));
+
+        // Cancel button
+        GuiElementInterface.ClickCallback cancelCallback = (i, c, a, g) -> {
+            if (this.onCancel != null) {
+                this.onCancel.run();
+            } else this.close();
+        };
+        this.setSlot(9 * this.getHeight() - 2, ButtonBuilder.buildButton(
+                Text.translatable("gui.cancel"), ButtonIcon.CLOSE, cancelCallback));
+
+        showPage(this.page);
+
+        super.beforeOpen();
+    }
 
-        // Add all items for this page
-        for (T item : getPage(page)) {
-            GuiElementInterface.ClickCallback itemCallback = (i, c, a, g) -> itemSelectCallback(item);
-            this.addSlot(getItemStack(item), itemCallback);
+    /**
+     * Show a page of the current items, rewriting only the item slots and pagination buttons.
+     * @param page The page number (0-indexed), clamped to the available pages.
+     */
+    protected void showPage(int page) {
+        int pages = getPageCount();
+        this.page = Math.max(0, Math.min(page, pages - 1));
+
+        // Items for this page, clearing slots left over from a longer page
+        List<T> pageItems = getPage(this.page);
+        int slots = Math.min(ITEMS_PER_PAGE, 9 * (this.getHeight() - 1));
+        for (int slot = 0; slot < slots; slot++) {
+            if (slot < pageItems.size()) {
+                T item = pageItems.get(slot);
+                GuiElementInterface.ClickCallback itemCallback = (i, c, a, g) -> itemSelectCallback(item);
+                this.setSlot(slot, getItemStack(item), itemCallback);
+            } else {
+                this.clearSlot(slot);
+            }
         }
 
         // Pagination buttons
-        if (page > 0) {
-            GuiElementInterface.ClickCallback prevPageCallback = (i, c, a, g) -> newInstance(player, page - 1).open();
+        if (this.page > 0) {
+            GuiElementInterface.ClickCallback prevPageCallback = (i, c, a, g) -> showPage(this.page - 1);
             this.setSlot(9 * this.getHeight() - 9, ButtonBuilder.buildButton(
                     Text.translatable("book.page_button.previous"), ButtonIcon.LEFT, prevPageCallback));
+        } else {
+            this.clearSlot(9 * this.getHeight() - 9);
         }
-        if (page < pages - 1) {
-            GuiElementInterface.ClickCallback nextPageCallback =
-                    (i, c, a, g) -> newInstance(player, page + 1).open();
+        if (this.page < pages - 1) {
+            GuiElementInterface.ClickCallback nextPageCallback = (i, c, a, g) -> showPage(this.page + 1);
             this.setSlot(9 * this.getHeight() - 1, ButtonBuilder.buildButton(
                     Text.translatable("book.page_button.next"), ButtonIcon.RIGHT, nextPageCallback));
+        } else {
+            this.clearSlot(9 * this.getHeight() - 1);
         }
+    }
 
-        // Cancel button
-        GuiElementInterface.ClickCallback cancelCallback = (i, c, a, g) -> {
-            if (this.onCancel != null) {
-                this.onCancel.run();
-            } else this.close();
-        };
-        this.setSlot(9 * this.getHeight() - 2, ButtonBuilder.buildButton(
-                Text.translatable("gui.cancel"), ButtonIcon.CLOSE, cancelCallback));
+    /**
+     * Filter the items to those with a name or word in their name starting with the query, and show the first page.
+     * @param query The search text. An empty query shows all items.
+     */
+    protected void search(String query) {
+        this.query = query.strip();
+        this.shown = this.query.isEmpty() ? this.items : findMatches(this.query);
+        this.page = 0;
+        if (this.isOpen()) {
+            showPage(0);
+        }
+    }
 
-        super.beforeOpen();
+    /**
+     * Find the items matching a search. Defaults to a prefix index over {@link #getSearchName}, built on first use.
+     * @param query The non-empty search text.
+     * @return The matching items, in display order.
+     */
+    protected List<T> findMatches(String query) {
+        if (this.searchIndex == null) {
+            this.searchIndex = PrefixIndex.build(this.items, item -> List.of(getSearchName(item)));
+        }
+        return this.searchIndex.search(query);
+    }
+
+    /**
+     * Get the current search text.
+     * @return The search text, or an empty string if not searching.
+     */
+    public String getQuery() {
+        return this.query;
     }
 
     /**
@@ -90,22 +156,22 @@ public abstract class AbstractSelectionGUI<T> extends SimpleGui {
     }
 
     /**
-     * Calculate the total number of pages needed to display all items.
-     * @return The total number of pages.
+     * Calculate the total number of pages needed to display the current items.
+     * @return The total number of pages, at least 1.
      */
     protected int getPageCount() {
-        return (int) Math.ceil((double) this.items.size() / ITEMS_PER_PAGE);
+        return Math.max(1, (int) Math.ceil((double) this.shown.size() / ITEMS_PER_PAGE));
     }
 
     /**
-     * Get the items for a specific page.
+     * Get the current items for a specific page.
      * @param page The page number (0-indexed).
      * @return A sublist of items for the specified page.
      */
     protected List<T> getPage(int page) {
-        int start = page * ITEMS_PER_PAGE;
-        int end = Math.min(start + ITEMS_PER_PAGE, this.items.size());
-        return this.items.subList(start, end);
+        int start = Math.min(page * ITEMS_PER_PAGE, this.shown.size());
+        int end = Math.min(start + ITEMS_PER_PAGE, this.shown.size());
+        return this.shown.subList(start, end);
     }
 
     /**
@@ -117,18 +183,44 @@ public abstract class AbstractSelectionGUI<T> extends SimpleGui {
         this.close();
     }
 
-    /**
-     * Create a new instance of the selection GUI for pagination.
-     * @param player The player for whom the GUI is being created.
-     * @param page The page number (0-indexed).
-     * @return A new instance of AbstractSelectionGUI for the specified page.
-     */
-    protected abstract AbstractSelectionGUI<T> newInstance(ServerPlayerEntity player, int page);
-
     /**
      * Get the ItemStack representation of the item.
      * @param item The item to convert.
      * @return The ItemStack representing the item.
      */
     protected abstract ItemStack getItemStack(T item);
+
+    /**
+     * Get the localised name an item can be searched by. Defaults to the name of its ItemStack.
+     * @param item The item to name.
+     * @return The name of the item in the server language.
+     */
+    protected String getSearchName(T item) {
+        return getItemStack(item).getName().getString();
+    }
+
+    /**
+     * Sign GUI for entering a search, reopening the selection GUI with the results on close.
+     */
+    static class SearchBox extends SignGui {
+        private final AbstractSelectionGUI<?> gui;
+
+        /**
+         * Constructor for SearchBox.
+         * @param gui The selection GUI to search and reopen.
+         */
+        SearchBox(AbstractSelectionGUI<?> gui) {
+            super(gui.getPlayer());
+            this.gui = gui;
+            this.setSignType(Blocks.OAK_WALL_SIGN);
+            this.setLine(0, Text.of(gui.getQuery()));
+        }
+
+        @Override
+        public void onClose() {
+            super.onClose();
+            this.gui.search(this.getLine(0).getString());
+            this.gui.open();
+        }
+    }
 }
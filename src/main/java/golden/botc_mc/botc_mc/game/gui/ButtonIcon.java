@@ -28,7 +28,8 @@ public enum ButtonIcon {
     DEMOTE,
     TELEPORT,
     MORE,
-    LESS;
+    LESS,
+    SEARCH;
 
     ItemStack toItemStack() {
         return switch (this) {
@@ -57,6 +58,8 @@ public enum ButtonIcon {
             case MORE -> new ItemStack(Items.PAPER);
             case LESS -> new ItemStack(Items.PAPER);
 
+            case SEARCH -> new ItemStack(Items.SPYGLASS);
+
             default -> new ItemStack(Items.PAPER); // Fallback
         };
     }
@@ -10,6 +10,7 @@ import golden.botc_mc.botc_mc.game.Script;
 import golden.botc_mc.botc_mc.game.botcCharacter;
 import golden.botc_mc.botc_mc.game.botcSeatManager;
 import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
+import golden.botc_mc.botc_mc.game.seat.Seat;
 import golden.botc_mc.botc_mc.game.seat.StorytellerSeat;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.LoreComponent;
@@ -24,16 +25,24 @@ import net.minecraft.util.Formatting;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The main GUI for Storytellers. All storyteller interactions are done through this GUI.
+ * While open, it listens to the seat manager and redraws only the slots of seats that change, so every storyteller
+ * with the grimoire open sees the same state.
  */
-public class GrimoireGUI extends LayeredGui {
+public class GrimoireGUI extends LayeredGui implements botcSeatManager.SeatListener {
     protected final botcSeatManager seatManager;
     protected final Script script;
+    private final ScreenHandlerType<?> screenSize;
+    private TownCircleLayer townCircle;
+    private LayerView townCircleView;
     private LayerView playerPopoutView;
     private LayerView playerMenuView;
     private LayerView storytellerView;
+    // The seat whose popout is showing, or null if the storyteller layer is showing
+    private Seat popoutSeat;
 
     /**
      * Constructor for GrimoireGUI.
@@ -42,15 +51,118 @@ public class GrimoireGUI extends LayeredGui {
      * @param script      The game script containing characters and other game data.
      */
     public GrimoireGUI(ServerPlayerEntity player, botcSeatManager seatManager, Script script) {
-        super(getScreenSize(seatManager), player, true);
+        this(getScreenSize(seatManager), player, seatManager, script);
+    }
+
+    private GrimoireGUI(ScreenHandlerType<?> screenSize, ServerPlayerEntity player, botcSeatManager seatManager,
+                        Script script) {
+        super(screenSize, player, true);
         this.setTitle(Text.translatable("gui.botc-mc.grimoire.title"));
 
         this.seatManager = seatManager;
         this.script = script;
+        this.screenSize = screenSize;
 
-        LayoutStyle layout = LayoutStyle.getLayoutType(seatManager.getSeatCount());
+        this.townCircle = new TownCircleLayer(this, LayoutStyle.getLayoutType(seatManager.getSeatCount()));
+        this.townCircleView = this.addLayer(this.townCircle, 0, 0);
+        this.storytellerView = this.addLayer(new StorytellerLayer(this), 0, this.getHeight() - 4);
+    }
+
+    @Override
+    public void onOpen() {
+        super.onOpen();
+        this.seatManager.addListener(this);
+    }
+
+    @Override
+    public void onClose() {
+        this.seatManager.removeListener(this);
+        super.onClose();
+    }
+
+    /**
+     * Redraws the slots showing the changed seats. Only reopens if the changes resized the screen.
+     * @param seats The seats that changed since the last tick.
+     */
+    @Override
+    public void onSeatsChanged(Set<Seat> seats) {
+        if (getScreenSize(this.seatManager) != this.screenSize) {
+            rebuild();
+            return;
+        }
+        boolean storytellerChanged = false;
+        for (Seat seat : seats) {
+            if (seat instanceof PlayerSeat playerSeat) {
+                int index = this.seatManager.getPlayerSeats().indexOf(playerSeat);
+                if (index != -1) {
+                    this.townCircle.updateSeat(index + 1);
+                }
+            } else {
+                storytellerChanged = true;
+            }
+        }
+        if (storytellerChanged) {
+            refreshStorytellerLayer();
+        }
+        if (this.popoutSeat != null && seats.contains(this.popoutSeat)) {
+            refreshSeatPopout();
+        }
+        this.markDirty();
+    }
+
+    /**
+     * Redraws the town circle and storyteller layers in place. Only reopens if the screen size changed.
+     */
+    @Override
+    public void onSeatsRearranged() {
+        if (getScreenSize(this.seatManager) != this.screenSize) {
+            rebuild();
+            return;
+        }
+        this.removeLayer(this.townCircleView);
+        this.townCircle = new TownCircleLayer(this, LayoutStyle.getLayoutType(this.seatManager.getSeatCount()));
+        this.townCircleView = this.addLayer(this.townCircle, 0, 0);
+        // Re-added so they stay above the town circle
+        if (this.popoutSeat != null && isSeated(this.popoutSeat)) {
+            refreshSeatPopout();
+        } else {
+            closeSeatPopout();
+        }
+        this.markDirty();
+    }
 
-        this.addLayer(new TownCircleLayer(this, layout), 0, 0);
+    /**
+     * Reopens the grimoire at its new size, keeping the popout that is showing.
+     */
+    private void rebuild() {
+        if (this.popoutSeat instanceof PlayerSeat seat && isSeated(seat)) {
+            this.reopen(seat);
+        } else if (this.popoutSeat instanceof StorytellerSeat seat && isSeated(seat)) {
+            this.reopen(seat);
+        } else {
+            this.reopen();
+        }
+    }
+
+    private boolean isSeated(Seat seat) {
+        return seat instanceof PlayerSeat playerSeat ?
+                this.seatManager.getPlayerSeats().contains(playerSeat) :
+                this.seatManager.getStorytellers().contains(seat);
+    }
+
+    private void refreshSeatPopout() {
+        if (this.popoutSeat instanceof PlayerSeat seat) {
+            showSeatPopout(seat);
+        } else if (this.popoutSeat instanceof StorytellerSeat seat) {
+            showSeatPopout(seat);
+        }
+    }
+
+    private void refreshStorytellerLayer() {
+        if (this.storytellerView == null) {
+            return;
+        }
+        this.removeLayer(this.storytellerView);
         this.storytellerView = this.addLayer(new StorytellerLayer(this), 0, this.getHeight() - 4);
     }
 
@@ -131,10 +243,11 @@ public class GrimoireGUI extends LayeredGui {
         clearInventorySection();
         int offset = (7 - Math.min(seat.getReminders().size(), 7)) / 2;
         int seatNumber = seatManager.getSeatNumber(seat);
-        botc.LOGGER.info("Showing popout for seat {} at offset {}.", seatNumber, offset);
+        botc.LOGGER.debug("Showing popout for seat {} at offset {}.", seatNumber, offset);
         this.playerPopoutView = this.addLayer(new SeatPopoutLayer(this, seat, seatNumber), offset,
                 this.getHeight() - 3);
         this.playerMenuView = this.addLayer(new SeatMenuLayer(this, seat), 0, this.getHeight() - 1);
+        this.popoutSeat = seat;
         this.markDirty();
     }
 
@@ -144,9 +257,19 @@ public class GrimoireGUI extends LayeredGui {
      */
     public void showSeatPopout(StorytellerSeat seat) {
         clearInventorySection();
-        botc.LOGGER.info("Showing menu for storyteller seat.");
+        botc.LOGGER.debug("Showing menu for storyteller seat.");
         this.playerPopoutView = this.addLayer(new SeatPopoutLayer(this, seat), 3, this.getHeight() - 3);
         this.playerMenuView = this.addLayer(new SeatMenuLayer(this, seat), 0, this.getHeight() - 1);
+        this.popoutSeat = seat;
+        this.markDirty();
+    }
+
+    /**
+     * Closes the seat popout and menu, showing the storyteller layer again.
+     */
+    public void closeSeatPopout() {
+        clearInventorySection();
+        this.storytellerView = this.addLayer(new StorytellerLayer(this), 0, this.getHeight() - 4);
         this.markDirty();
     }
 
@@ -166,6 +289,7 @@ public class GrimoireGUI extends LayeredGui {
             this.removeLayer(this.storytellerView);
             this.storytellerView = null;
         }
+        this.popoutSeat = null;
     }
 
     /**
@@ -239,6 +363,7 @@ public class GrimoireGUI extends LayeredGui {
      * Creates a click callback for a reminder token item.
      * If the item is shift-right-clicked, it removes the reminder.
      * If the item is right-clicked and is a custom reminder, it opens the editing GUI.
+     * If the item is shift-left-clicked, it cycles how long the reminder lasts.
      * Otherwise, it shows the player seat popout.
      * @param seat      The player seat associated with the reminder.
      * @param reminders The list of reminder tokens.
@@ -252,7 +377,11 @@ public class GrimoireGUI extends LayeredGui {
             // Remove reminder
             if (c == ClickType.MOUSE_RIGHT_SHIFT) {
                 seat.removeReminder(n);
-                this.reopen(seat);
+                showSeatPopout(seat);
+                // Change lifetime
+            } else if (c == ClickType.MOUSE_LEFT_SHIFT) {
+                seat.setReminderLifetime(n, reminders.get(n).lifetime().next());
+                showSeatPopout(seat);
                 // Edit reminder
             } else if (c == ClickType.MOUSE_RIGHT && reminders.get(n).character() == botcCharacter.EMPTY) {
                 ReminderSelectGUI.CustomTokenBox box = new ReminderSelectGUI.CustomTokenBox(this.getPlayer(),
@@ -1,5 +1,6 @@
 package golden.botc_mc.botc_mc.game.gui;
 
+import golden.botc_mc.botc_mc.game.CharacterSearchIndex;
 import golden.botc_mc.botc_mc.game.Script;
 import golden.botc_mc.botc_mc.game.Team;
 import golden.botc_mc.botc_mc.game.botcCharacter;
@@ -58,13 +59,13 @@ public class NPCCharacterSelectGUI extends AbstractSelectionGUI<botcCharacter> {
     }
 
     @Override
-    protected AbstractSelectionGUI<botcCharacter> newInstance(ServerPlayerEntity player, int page) {
-        return new NPCCharacterSelectGUI(this.player, this.script, this.seatManager,
-                this.onSelectItem, this.onCancel, page);
+    protected ItemStack getItemStack(botcCharacter item) {
+        return TokenItemStack.of(item, script);
     }
 
     @Override
-    protected ItemStack getItemStack(botcCharacter item) {
-        return TokenItemStack.of(item, script);
+    protected List<botcCharacter> findMatches(String query) {
+        return CharacterSearchIndex.filter(this.items, botcCharacter::id, CharacterSearchIndex.localeOf(this.player),
+                query);
     }
 }
@@ -1,5 +1,6 @@
 package golden.botc_mc.botc_mc.game.gui;
 
+import golden.botc_mc.botc_mc.game.CharacterSearchIndex;
 import golden.botc_mc.botc_mc.game.Script;
 import golden.botc_mc.botc_mc.game.Team;
 import golden.botc_mc.botc_mc.game.botcCharacter;
@@ -79,12 +80,13 @@ public class PlayerCharacterSelectGUI extends AbstractSelectionGUI<botcCharacter
     }
 
     @Override
-    protected AbstractSelectionGUI<botcCharacter> newInstance(ServerPlayerEntity player, int page) {
-        return new PlayerCharacterSelectGUI(this.player, this.script, this.onSelectItem, this.onCancel, this.seeTravellers, page);
+    protected ItemStack getItemStack(botcCharacter item) {
+        return TokenItemStack.of(item, this.script);
     }
 
     @Override
-    protected ItemStack getItemStack(botcCharacter item) {
-        return TokenItemStack.of(item, this.script);
+    protected List<botcCharacter> findMatches(String query) {
+        return CharacterSearchIndex.filter(this.items, botcCharacter::id, CharacterSearchIndex.localeOf(this.player),
+                query);
     }
 }
@@ -1,7 +1,9 @@
 package golden.botc_mc.botc_mc.game.gui;
 
+import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.PropertyMap;
 import golden.botc_mc.botc_mc.botc;
+import golden.botc_mc.botc_mc.game.PlayerSessions;
 import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
 import golden.botc_mc.botc_mc.game.seat.Seat;
 import net.minecraft.component.DataComponentTypes;
@@ -25,6 +27,47 @@ public class PlayerHeadItemStack {
     // Set to true to assign default profiles to empty seats.
     private static final boolean POPULATE_HEADS = true;
 
+    /**
+     * Maximum number of cached profiles, dropping the least recently cached when full.
+     */
+    private static final int MAX_CACHED_PROFILES = 512;
+    private static final String TEXTURES_PROPERTY = "textures";
+    // Head profiles by player UUID, carrying the signed skin textures so clients need no lookup.
+    // Evicted when the player disconnects.
+    private static final PlayerSessions.SessionMap<ProfileComponent> PROFILES =
+            PlayerSessions.newMap("gui.head_profiles", MAX_CACHED_PROFILES);
+
+    /**
+     * Cache the head profile of a player, replacing any previous entry. Called when a player joins a game so that
+     * their head renders immediately. Uses the textures already on the connected player's profile, so no network
+     * access is needed.
+     * @param player The player whose profile to cache.
+     */
+    public static void cacheProfile(ServerPlayerEntity player) {
+        PROFILES.put(player.getUuid(), profileOf(player.getGameProfile()));
+    }
+
+    /**
+     * Get the cached head profile of a player, caching it first if needed.
+     * @param player The player whose profile to get.
+     * @return The head profile of the player.
+     */
+    private static ProfileComponent getProfile(ServerPlayerEntity player) {
+        ProfileComponent profile = PROFILES.get(player.getUuid());
+        if (profile == null) {
+            cacheProfile(player);
+            profile = PROFILES.get(player.getUuid());
+        }
+        return profile;
+    }
+
+    private static ProfileComponent profileOf(GameProfile gameProfile) {
+        PropertyMap properties = new PropertyMap();
+        properties.putAll(TEXTURES_PROPERTY, gameProfile.getProperties().get(TEXTURES_PROPERTY));
+        return new ProfileComponent(Optional.ofNullable(gameProfile.getName()),
+                Optional.ofNullable(gameProfile.getId()), properties);
+    }
+
     /**
      * Create a player head ItemStack for the given player.
      * @param player The player whose head to create.
@@ -32,8 +75,7 @@ public class PlayerHeadItemStack {
      */
     public static ItemStack of(ServerPlayerEntity player) {
         ItemStack headItem = new ItemStack(Items.PLAYER_HEAD);
-        ProfileComponent profile = new ProfileComponent(player.getGameProfile());
-        headItem.set(DataComponentTypes.PROFILE, profile);
+        headItem.set(DataComponentTypes.PROFILE, getProfile(player));
         return headItem;
     }
 
@@ -6,24 +6,27 @@ import golden.botc_mc.botc_mc.botc;
 import golden.botc_mc.botc_mc.game.Script;
 import golden.botc_mc.botc_mc.game.botcCharacter;
 import golden.botc_mc.botc_mc.game.botcSeatManager;
+import golden.botc_mc.botc_mc.game.seat.PlayerSeat;
 import net.minecraft.block.Blocks;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.LoreComponent;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.DyeColor;
+import net.minecraft.util.Formatting;
 
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Selection GUI for reminder tokens.
  */
 public class ReminderSelectGUI extends AbstractSelectionGUI<botcCharacter.ReminderToken> {
-
-    private final Script script;
     private final botcSeatManager seatManager;
-    private final boolean seeAll;
 
     /**
      * Constructor for ReminderSelectGUI.
@@ -39,11 +42,8 @@ public class ReminderSelectGUI extends AbstractSelectionGUI<botcCharacter.Remind
                              Function<botcCharacter.ReminderToken, ?> onSelectItem, Runnable onCancel,
                              boolean seeAll, int page) {
         super(player, getReminderTokens(script, seatManager, seeAll), onSelectItem, onCancel, page);
-        this.setTitle(Text.translatable("gui.botc-mc.selection.reminder"));
-
-        this.script = script;
         this.seatManager = seatManager;
-        this.seeAll = seeAll;
+        this.setTitle(Text.translatable("gui.botc-mc.selection.reminder"));
 
         // Custom token button
         GuiElementInterface.ClickCallback customTokenCallback = (i, c, a, g) ->
@@ -81,6 +81,8 @@ public class ReminderSelectGUI extends AbstractSelectionGUI<botcCharacter.Remind
                 }
             }
             // TODO: Include storyteller seats
+            // Reminders already in the grimoire, such as custom notes
+            tokens.addAll(seatManager.getReminderIndex().getReminders());
         } else {
             for (botcCharacter character : script.characters()) {
                 tokens.addAll(character.reminderTokens());
@@ -105,14 +107,23 @@ public class ReminderSelectGUI extends AbstractSelectionGUI<botcCharacter.Remind
     }
 
     @Override
-    protected AbstractSelectionGUI<botcCharacter.ReminderToken> newInstance(ServerPlayerEntity player, int page) {
-        return new ReminderSelectGUI(player, this.script, this.seatManager, this.onSelectItem, this.onCancel,
-                this.seeAll, page);
+    protected ItemStack getItemStack(botcCharacter.ReminderToken item) {
+        ItemStack stack = TokenItemStack.of(item);
+        Set<PlayerSeat> seats = this.seatManager.getReminderIndex().getSeats(item);
+        if (!seats.isEmpty()) {
+            String numbers = seats.stream()
+                    .map(seat -> String.valueOf(this.seatManager.getSeatNumber(seat)))
+                    .collect(Collectors.joining(", "));
+            Text line = Text.translatable("gui.botc-mc.selection.reminder.on_seats", numbers)
+                    .styled(style -> style.withColor(Formatting.GRAY).withItalic(false));
+            stack.set(DataComponentTypes.LORE, stack.getOrDefault(DataComponentTypes.LORE, LoreComponent.DEFAULT).with(line));
+        }
+        return stack;
     }
 
     @Override
-    protected ItemStack getItemStack(botcCharacter.ReminderToken item) {
-        return TokenItemStack.of(item);
+    protected String getSearchName(botcCharacter.ReminderToken item) {
+        return item.toText().getString();
     }
 
     /**
@@ -24,32 +24,28 @@ public class SeatMenuLayer extends Layer {
 
         ArrayList<GuiElement> elements = new ArrayList<>(9);
         elements.add(ButtonBuilder.buildButton(
-                Text.translatable("gui.cancel"), ButtonIcon.CLOSE, (i, c, a, g) -> gui.reopen()));
+                Text.translatable("gui.cancel"), ButtonIcon.CLOSE, (i, c, a, g) -> gui.closeSeatPopout()));
         elements.add(ButtonBuilder.buildButton(
                 Text.translatable("gui.botc-mc.add_reminder"), ButtonIcon.ADD, (i, c, a, g) -> gui.addReminder(seat)));
         if (seat.isAlive()) {
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.kill"), ButtonIcon.KILL, (i, c, a, g) -> {
                 seat.kill();
-                gui.reopen(seat);
             }));
         } else {
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.revive"), ButtonIcon.REVIVE, (i, c, a, g) -> {
                         seat.revive();
-                        gui.reopen(seat);
             }));
             if (seat.canGhostVote()) {
                 elements.add(ButtonBuilder.buildButton(
                         Text.translatable("gui.botc-mc.remove_ghost_vote"), ButtonIcon.REMOVE_VOTE, (i, c, a, g) -> {
                             seat.removeGhostVote();
-                            gui.reopen(seat);
                 }));
             } else {
                 elements.add(ButtonBuilder.buildButton(
                         Text.translatable("gui.botc-mc.return_ghost_vote"), ButtonIcon.RETURN_VOTE, (i, c, a, g) -> {
                             seat.restoreGhostVote();
-                            gui.reopen(seat);
                 }));
             }
         }
@@ -61,13 +57,12 @@ public class SeatMenuLayer extends Layer {
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.empty_seat"), ButtonIcon.DELETE, (i, c, a, g) -> {
                         seat.removePlayerEntity();
-                        gui.reopen(seat);
             }));
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.promote"), ButtonIcon.UP, (i, c, a, g) -> {
                         ServerPlayerEntity player = seat.getPlayerEntity();
                         StorytellerSeat newSeat = (StorytellerSeat) gui.seatManager.assignPlayerToStorytellerSeat(player);
-                        gui.reopen(newSeat);
+                        gui.showSeatPopout(newSeat);
             }));
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("spectatorMenu.teleport"), ButtonIcon.TELEPORT, (i, c, a, g) -> {
@@ -97,31 +92,29 @@ public class SeatMenuLayer extends Layer {
 
         ArrayList<GuiElement> elements = new ArrayList<>(9);
         elements.add(ButtonBuilder.buildButton(
-                Text.translatable("gui.cancel"), ButtonIcon.CLOSE, (i, c, a, g) -> gui.reopen()));
+                Text.translatable("gui.cancel"), ButtonIcon.CLOSE, (i, c, a, g) -> gui.closeSeatPopout()));
         if (seat.isAlive()) {
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.kill"), ButtonIcon.KILL, (i, c, a, g) -> {
                         seat.kill();
-                        gui.reopen(seat);
             }));
         } else {
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.revive"), ButtonIcon.REVIVE, (i, c, a, g) -> {
                         seat.revive();
-                        gui.reopen(seat);
             }));
         }
         if (seat.hasPlayerEntity()) {
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.step_down"), ButtonIcon.DOWN, (i, c, a, g) -> {
                         seat.removePlayerEntity();
-                        gui.reopen();
+                        gui.closeSeatPopout();
             }));
         } else {
             elements.add(ButtonBuilder.buildButton(
                     Text.translatable("gui.botc-mc.step_up"), ButtonIcon.UP, (i, c, a, g) -> {
                         seat.setPlayerEntity(gui.getPlayer());
-                        gui.reopen();
+                        gui.closeSeatPopout();
             }));
         }
 
@@ -53,7 +53,6 @@ public class StorytellerLayer extends Layer {
             GuiElementInterface.ClickCallback tokenCallback = (i, c, a, g) -> {
                 if (c == ClickType.MOUSE_RIGHT_SHIFT) {
                     gui.seatManager.removeNPC(npc);
-                    gui.reopen();
                 }
             };
             this.setSlot(9 * (n / perRow) + 8 - (n % perRow), tokenItem, tokenCallback);
@@ -2,10 +2,12 @@ package golden.botc_mc.botc_mc.game.gui;
 
 import golden.botc_mc.botc_mc.botc;
 import golden.botc_mc.botc_mc.game.CharacterLoader;
+import golden.botc_mc.botc_mc.game.NightType;
 import golden.botc_mc.botc_mc.game.Script;
 import golden.botc_mc.botc_mc.game.Team;
 import golden.botc_mc.botc_mc.game.botcCharacter;
 import golden.botc_mc.botc_mc.game.seat.Seat;
+import golden.botc_mc.botc_mc.game.seat.StorytellerSeat;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.CustomModelDataComponent;
 import net.minecraft.component.type.LoreComponent;
@@ -18,14 +20,47 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Identifier;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Utility class for creating token ItemStacks for characters and seats.
+ * Tokens are built once per variant and cached as prototypes; every call returns a copy.
  */
 public record TokenItemStack(ItemStack tokenItem) {
 
+    /**
+     * Upper bound on cached prototypes before the cache is cleared.
+     */
+    private static final int MAX_PROTOTYPES = 4096;
+    private static final Map<PrototypeKey, ItemStack> PROTOTYPES = new ConcurrentHashMap<>();
+    private static final Map<botcCharacter.ReminderToken, ItemStack> REMINDER_PROTOTYPES = new ConcurrentHashMap<>();
+    // Keyed by instance, since a script's override or homebrew character can share its id with a base character
+    private static final Map<botcCharacter, ItemStack> CHARACTER_PROTOTYPES =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Discard all cached token prototypes. Called when scripts and characters are reloaded.
+     */
+    public static void invalidateCache() {
+        PROTOTYPES.clear();
+        REMINDER_PROTOTYPES.clear();
+        CHARACTER_PROTOTYPES.clear();
+    }
+
+    private static <K> ItemStack copyOfPrototype(Map<K, ItemStack> cache, K key,
+                                                 Function<K, ItemStack> factory) {
+        if (cache.size() >= MAX_PROTOTYPES) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(key, factory).copy();
+    }
+
     private static NbtComponent createCustomData(boolean actsFirstNight, boolean actsOtherNights,
                                                  boolean setup, int reminders, String team, String edition) {
         NbtCompound tag = new NbtCompound();
@@ -45,10 +80,8 @@ public record TokenItemStack(ItemStack tokenItem) {
     }
 
     private static NbtComponent createCustomData(botcCharacter character, Script script) {
-        boolean actsFirstNight = script.firstNightOrder(false).stream()
-            .anyMatch(action -> Objects.equals(action.id, character.id()));
-        boolean actsOtherNights = script.otherNightOrder().stream()
-            .anyMatch(action -> Objects.equals(action.id, character.id()));
+        boolean actsFirstNight = script.actsOnNight(NightType.FIRST, character.id());
+        boolean actsOtherNights = script.actsOnNight(NightType.OTHER, character.id());
 
         int reminders = (character.reminders() != null ? character.reminders().size() : 0) +
                         (character.remindersGlobal() != null ? character.remindersGlobal().size() : 0);
@@ -58,10 +91,8 @@ public record TokenItemStack(ItemStack tokenItem) {
     }
 
     private static NbtComponent createCustomData(botcCharacter character) {
-        boolean actsFirstNight = CharacterLoader.firstNightOrder.stream()
-            .anyMatch(action -> Objects.equals(action, character.id()));
-        boolean actsOtherNights = CharacterLoader.otherNightOrder.stream()
-            .anyMatch(action -> Objects.equals(action, character.id()));
+        boolean actsFirstNight = CharacterLoader.actsOnNight(NightType.FIRST, character.id());
+        boolean actsOtherNights = CharacterLoader.actsOnNight(NightType.OTHER, character.id());
 
         int reminders = (character.reminders() != null ? character.reminders().size() : 0) +
                         (character.remindersGlobal() != null ? character.remindersGlobal().size() : 0);
@@ -117,6 +148,10 @@ public record TokenItemStack(ItemStack tokenItem) {
      * @return An ItemStack representing the character's token.
      */
     public static ItemStack of(botcCharacter character) {
+        return copyOfPrototype(CHARACTER_PROTOTYPES, character, TokenItemStack::createToken);
+    }
+
+    private static ItemStack createToken(botcCharacter character) {
         ItemStack tokenItem = createUnformattedToken(character);
 
         List<Integer> colours = List.of();
@@ -134,7 +169,12 @@ public record TokenItemStack(ItemStack tokenItem) {
     }
 
     public static ItemStack of(botcCharacter character, Script script) {
-        ItemStack tokenItem = TokenItemStack.of(character);
+        return copyOfPrototype(PROTOTYPES, new PrototypeKey(character.id(), script.index(), null, false),
+                key -> createToken(character, script));
+    }
+
+    private static ItemStack createToken(botcCharacter character, Script script) {
+        ItemStack tokenItem = createToken(character);
 
         tokenItem.set(DataComponentTypes.CUSTOM_DATA, createCustomData(character, script));
 
@@ -148,6 +188,12 @@ public record TokenItemStack(ItemStack tokenItem) {
      * @return An ItemStack representing the seat's token.
      */
     public static ItemStack of(Seat seat, Script script) {
+        PrototypeKey key = new PrototypeKey(seat.getCharacter().id(), script.index(), seat.getColour(false),
+                seat instanceof StorytellerSeat);
+        return copyOfPrototype(PROTOTYPES, key, k -> createToken(seat, script));
+    }
+
+    private static ItemStack createToken(Seat seat, Script script) {
         botcCharacter character = seat.getCharacter();
         ItemStack tokenItem = createUnformattedToken(character);
         tokenItem.set(DataComponentTypes.CUSTOM_NAME, seat.getCharacterText());
@@ -171,6 +217,10 @@ public record TokenItemStack(ItemStack tokenItem) {
      * @return An ItemStack representing the reminder token.
      */
     public static ItemStack of(botcCharacter.ReminderToken token) {
+        return copyOfPrototype(REMINDER_PROTOTYPES, token, TokenItemStack::createToken);
+    }
+
+    private static ItemStack createToken(botcCharacter.ReminderToken token) {
         ItemStack tokenItem = new ItemStack(Items.PAPER);
 
         if (token.character() == null || token.character() == botcCharacter.EMPTY || token.character().token() == null) {
@@ -188,12 +238,27 @@ public record TokenItemStack(ItemStack tokenItem) {
         reminderText.styled(style -> style.withItalic(false));
         tokenItem.set(DataComponentTypes.CUSTOM_NAME, reminderText);
 
+        List<Text> lore = new ArrayList<>();
         if (token.character() != botcCharacter.EMPTY && token.character() != null) {
             MutableText characterName = (MutableText) token.character().toFormattedText(false, false, true, false);
             characterName.styled(style -> style.withBold(false).withItalic(false));
-            tokenItem.set(DataComponentTypes.LORE, new LoreComponent(List.of(characterName)));
+            lore.add(characterName);
+        }
+        if (token.lifetime() != botcCharacter.ReminderToken.Lifetime.PERMANENT) {
+            lore.add(token.lifetime().toText().copy().styled(style -> style.withColor(Formatting.GRAY).withItalic(false)));
+        }
+        if (!lore.isEmpty()) {
+            tokenItem.set(DataComponentTypes.LORE, new LoreComponent(lore));
         }
 
         return tokenItem;
     }
-}
\ No newline at end of file
+
+    /**
+     * Identifies a cached token variant. Script tokens are keyed by the script's index, which is unique to each
+     * loaded script; the colour and storyteller flag only apply to seat tokens, whose names depend on them.
+     * Names are translatable and localised by the client, so one prototype serves every locale.
+     */
+    private record PrototypeKey(String characterId, Script.Index script, Formatting colour, boolean storyteller) {
+    }
+}
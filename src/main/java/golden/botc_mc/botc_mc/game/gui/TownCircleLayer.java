@@ -16,43 +16,69 @@ import java.util.List;
  * @see GrimoireGUI.LayoutStyle
  */
 public class TownCircleLayer extends Layer {
+    private final GrimoireGUI gui;
+    private final int maxReminders;
+    // Slots of each seat, indexed by seat then item (0=head, 1=token, 2+=reminders), fixed for the layout
+    private final int[][] seatSlots;
+
     public TownCircleLayer(GrimoireGUI gui, GrimoireGUI.LayoutStyle layout) {
         super(gui.getHeight(), gui.getWidth());
+        this.gui = gui;
 
         int seatCount = gui.seatManager.getSeatCount();
-        int maxReminders = GrimoireGUI.LayoutStyle.getMaxReminders(layout);
+        this.maxReminders = GrimoireGUI.LayoutStyle.getMaxReminders(layout);
+        this.seatSlots = new int[seatCount][2 + this.maxReminders];
 
         for (int n = 0; n < seatCount; n++) {
-            PlayerSeat seat = gui.seatManager.getSeatFromNumber(n+1);
+            for (int i = 0; i < this.seatSlots[n].length; i++) {
+                this.seatSlots[n][i] = getIndexForLayout(layout, n, i, seatCount);
+            }
+            updateSeat(n + 1);
+        }
+    }
 
-            ItemStack headItem = PlayerHeadItemStack.of(seat, n + 1);
-            ItemStack tokenItem = TokenItemStack.of(seat, gui.script);
-            List<GuiElement> reminderItems = gui.getReminderItems(seat, seat.getReminders(), maxReminders);
+    /**
+     * Redraws the head, token and reminders of a single seat, leaving every other slot untouched.
+     * @param seatNumber The seat number (1-based index).
+     */
+    public void updateSeat(int seatNumber) {
+        int n = seatNumber - 1;
+        if (n < 0 || n >= this.seatSlots.length) {
+            return;
+        }
+        PlayerSeat seat = gui.seatManager.getSeatFromNumber(seatNumber);
+        int[] slots = this.seatSlots[n];
 
-            GuiElementInterface.ClickCallback headCallback = (i, c, a, g) -> {
-                if (c == ClickType.MOUSE_LEFT_SHIFT) {
-                    if (seat.isAlive()) seat.kill();
-                    else seat.revive();
-                    gui.reopen(seat);
-                }
-                gui.showSeatPopout(seat);
-            };
-            GuiElementInterface.ClickCallback tokenCallback = (i, c, a, g) -> {
-                switch (c) {
-                    case MOUSE_RIGHT -> gui.selectCharacter(seat);
-                    case MOUSE_LEFT_SHIFT -> {
-                        seat.toggleAlignment();
-                        gui.reopen(seat);
-                    }
-                    case MOUSE_RIGHT_SHIFT -> seat.setCharacter(botcCharacter.EMPTY);
-                    default -> gui.showSeatPopout(seat);
+        ItemStack headItem = PlayerHeadItemStack.of(seat, seatNumber);
+        ItemStack tokenItem = TokenItemStack.of(seat, gui.script);
+        List<GuiElement> reminderItems = gui.getReminderItems(seat, seat.getReminders(), maxReminders);
+
+        GuiElementInterface.ClickCallback headCallback = (i, c, a, g) -> {
+            if (c == ClickType.MOUSE_LEFT_SHIFT) {
+                if (seat.isAlive()) seat.kill();
+                else seat.revive();
+            }
+            gui.showSeatPopout(seat);
+        };
+        GuiElementInterface.ClickCallback tokenCallback = (i, c, a, g) -> {
+            switch (c) {
+                case MOUSE_RIGHT -> gui.selectCharacter(seat);
+                case MOUSE_LEFT_SHIFT -> {
+                    seat.toggleAlignment();
+                    gui.showSeatPopout(seat);
                 }
-            };
+                case MOUSE_RIGHT_SHIFT -> seat.setCharacter(botcCharacter.EMPTY);
+                default -> gui.showSeatPopout(seat);
+            }
+        };
 
-            this.setSlot(getIndexForLayout(layout, n, 0, seatCount), headItem, headCallback);
-            this.setSlot(getIndexForLayout(layout, n, 1, seatCount), tokenItem, tokenCallback);
-            for (int i = 0; i < reminderItems.size(); i++) {
-                this.setSlot(getIndexForLayout(layout, n, 2 + i, seatCount), reminderItems.get(i));
+        this.setSlot(slots[0], headItem, headCallback);
+        this.setSlot(slots[1], tokenItem, tokenCallback);
+        for (int i = 0; i < maxReminders; i++) {
+            if (i < reminderItems.size()) {
+                this.setSlot(slots[2 + i], reminderItems.get(i));
+            } else {
+                this.clearSlot(slots[2 + i]);
             }
         }
     }
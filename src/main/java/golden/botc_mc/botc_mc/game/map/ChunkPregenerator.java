@@ -0,0 +1,103 @@
+package golden.botc_mc.botc_mc.game.map;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import xyz.nucleoid.map_templates.BlockBounds;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Generates the chunks of a warm map's game world ahead of players, a few per tick while the server has time to
+ * spare. Chunks nearest the spawn go first. Each chunk is force-loaded, so the server generates it off-thread and
+ * keeps it loaded while the lobby waits. {@link #release()} lifts the forcing when the waiting phase ends, after which
+ * chunks stay loaded only while players are near them.
+ */
+public final class ChunkPregenerator {
+    private static final Logger LOGGER = LogManager.getLogger("botc.ChunkPregenerator");
+    /** Chunks requested per idle tick. */
+    private static final int CHUNKS_PER_TICK = 2;
+    /** Maximum chunks pregenerated per world, bounding the memory a warm map holds. */
+    static final int MAX_CHUNKS = 256;
+    /** Ticks slower than this on average are not idle and skip pregeneration. */
+    private static final long IDLE_TICK_NANOS = 25_000_000L;
+
+    private final ServerWorld world;
+    // Chunk positions as longs, nearest the spawn first
+    private final long[] chunks;
+    private int next;
+
+    private ChunkPregenerator(ServerWorld world, long[] chunks) {
+        this.world = world;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Plan pregeneration of the chunks covered by a map.
+     * @param world The game world.
+     * @param map The map the world was generated from.
+     * @return The pregenerator.
+     */
+    public static ChunkPregenerator of(ServerWorld world, Map map) {
+        BlockBounds bounds = map.getBounds();
+        int minX = bounds.min().getX() >> 4, maxX = bounds.max().getX() >> 4;
+        int minZ = bounds.min().getZ() >> 4, maxZ = bounds.max().getZ() >> 4;
+        ChunkPos spawn = new ChunkPos(map.getRegions().spawn().centerBlock());
+
+        Long[] positions = new Long[(maxX - minX + 1) * (maxZ - minZ + 1)];
+        int i = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                positions[i++] = ChunkPos.toLong(x, z);
+            }
+        }
+        Arrays.sort(positions, Comparator.comparingInt(pos -> new ChunkPos(pos).getSquaredDistance(spawn)));
+        long[] chunks = new long[Math.min(positions.length, MAX_CHUNKS)];
+        for (int c = 0; c < chunks.length; c++) {
+            chunks[c] = positions[c];
+        }
+        if (positions.length > MAX_CHUNKS) {
+            LOGGER.warn("[ChunkPregenerator] map covers {} chunks; pregenerating the {} nearest spawn",
+                    positions.length, MAX_CHUNKS);
+        }
+        return new ChunkPregenerator(world, chunks);
+    }
+
+    /**
+     * Request the next chunks if the server is idle. Called every tick while the game waits for players.
+     */
+    public void tick() {
+        if (isDone() || this.world.getServer().getAverageNanosPerTick() > IDLE_TICK_NANOS) {
+            return;
+        }
+        for (int i = 0; i < CHUNKS_PER_TICK && this.next < this.chunks.length; i++) {
+            ChunkPos pos = new ChunkPos(this.chunks[this.next++]);
+            this.world.setChunkForced(pos.x, pos.z, true);
+        }
+        if (isDone()) {
+            LOGGER.debug("[ChunkPregenerator] requested {} chunks in {}", this.chunks.length,
+                    this.world.getRegistryKey().getValue());
+        }
+    }
+
+    /**
+     * Stop force-loading the requested chunks. Called when the waiting phase ends.
+     */
+    public void release() {
+        for (int i = 0; i < this.next; i++) {
+            ChunkPos pos = new ChunkPos(this.chunks[i]);
+            this.world.setChunkForced(pos.x, pos.z, false);
+        }
+        this.next = this.chunks.length;
+    }
+
+    /**
+     * Check whether every planned chunk has been requested.
+     * @return True once pregeneration is complete.
+     */
+    public boolean isDone() {
+        return this.next >= this.chunks.length;
+    }
+}
@@ -1,12 +1,24 @@
 package golden.botc_mc.botc_mc.game.map;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.block.BlockState;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.EmptyBlockView;
 import net.minecraft.world.gen.chunk.ChunkGenerator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,10 +39,18 @@ public final class Map {
     private static final Logger LOGGER = LogManager.getLogger("botc.Map");
     /** Derived respawn regions (immutable after construction). */
     private final Regions regions;
-    /** Underlying immutable template returned by the map templates API. */
+    /** Underlying template returned by the map templates API; never modified, so it is shared between games. */
     private final MapTemplate template;
+    /** Standing positions around the spawn, computed on first use. */
+    private volatile List<BlockPos> spawnSurface;
+    /** Seat positions around the town square, by seat count. */
+    private final ConcurrentHashMap<Integer, List<SeatPosition>> seatPositions = new ConcurrentHashMap<>();
     /** Current expected map_format integer. Used for soft version compatibility warnings only. */
     private static final int CURRENT_MAP_FORMAT = 1;
+    /** Horizontal distance from the spawn centre searched for standing positions. */
+    private static final int SPAWN_SEARCH_RADIUS = 8;
+    /** Loader for local template files, resolved on first use. */
+    private static volatile LocalLoader localLoader;
 
     /**
      * Internal constructor building region lists from a loaded template.
@@ -69,146 +89,134 @@ public final class Map {
                 .findFirst()
                 .orElse(RespawnRegion.DEFAULT);
 
-        this.regions = new Regions(checkpoints, spawn);
+        // Optional town square the seats are laid out around.
+        TownSquare townSquare = template.getMetadata()
+                .getRegions("town_square")
+                .map(TownSquare::of)
+                .findFirst()
+                .orElse(null);
+
+        this.regions = new Regions(checkpoints, spawn, townSquare);
     }
 
     /**
-     * Extract a string field value from a JSON string (minimal parser).
-     * <p>
-     * This method performs a simple string search without full JSON parsing.
-     * It's suitable for reading simple string fields from JSON configuration files.
-     *
-     * @param json JSON content as a string
-     * @param fieldName name of the field to extract
-     * @return field value as a string, or null if not found or invalid format
+     * Load map template and derive respawn metadata.
+     * Maps are shared through {@link MapTemplateCache}, so opening a recently loaded map does not parse it again.
+     * @param server Minecraft server for resource access
+     * @param identifier namespaced id (e.g. {@code botc-mc:test})
+     * @return loaded Map instance, possibly shared with other games
+     * @throws GameOpenException if template resource cannot be read
      */
-    public static String extractJsonField(String json, String fieldName) {
-        int idx = json.indexOf("\"" + fieldName + "\"");
-        if (idx < 0) return null;
-        int colon = json.indexOf(":", idx);
-        if (colon < 0) return null;
-        int q1 = json.indexOf('"', colon);
-        if (q1 < 0) return null;
-        int q2 = json.indexOf('"', q1 + 1);
-        if (q2 < 0) return null;
-        return json.substring(q1 + 1, q2).trim();
+    public static Map load(MinecraftServer server, Identifier identifier) {
+        Identifier templateId = MapCatalog.resolveTemplateId(identifier);
+        LOGGER.debug("[Map] Resolved map id {} to template {}", identifier, templateId);
+        return loadTemplate(server, templateId);
     }
 
     /**
-     * Resolve a logical map id to a template Identifier using map_config files.
-     * Map config files are located under data/botc-mc/map_config/<id>.json and contain a single field:
-     * { "template": "botc-mc:test" }
-     * If not found or invalid, fallback to given id.
+     * Load a map template by template id, from the cache if it is still current.
+     * @param server Minecraft server for resource access
+     * @param templateId template id, already resolved through {@link MapCatalog}
+     * @return loaded Map instance
+     * @throws GameOpenException if template resource cannot be read
      */
-    private static Identifier resolveTemplateId(Identifier id) {
-        String path = "data/botc-mc/map_config/" + id.getPath() + ".json";
-        try (var in = Map.class.getClassLoader().getResourceAsStream(path)) {
-            if (in != null) {
-                String json = new String(in.readAllBytes());
-                String value = extractJsonField(json, "template");
-                if (value != null && !value.isEmpty()) {
-                    Identifier resolved = Identifier.of(value);
-                    LOGGER.info("[Map] map_config {} resolved {} -> {}", path, id, resolved);
-                    return resolved;
-                } else {
-                    LOGGER.warn("[Map] map_config {} missing template; using {}", path, id);
-                }
-            } else {
-                LOGGER.debug("[Map] no classpath map_config resource for {} at {}", id, path);
+    static Map loadTemplate(MinecraftServer server, Identifier templateId) {
+        Map cached = MapTemplateCache.get(templateId);
+        if (cached != null) {
+            LOGGER.debug("[Map] Using cached template {}", templateId);
+            return cached;
+        }
+        LOGGER.info("[Map] Loading template {}", templateId);
+        long generation = MapTemplateCache.generation();
+        try {
+            Map map = new Map(MapTemplateSerializer.loadFromResource(server, templateId));
+            MapTemplateCache.put(templateId, map, generation);
+            return map;
+        } catch (IOException e) {
+            // Fall back to a local maps/<template>.nbt
+            Path localMap = Paths.get("maps", templateId.getPath() + ".nbt");
+            if (!Files.exists(localMap)) {
+                String msg = "Map load failed for " + templateId + ": " + e.getMessage();
+                LOGGER.error(msg, e);
+                throw new GameOpenException(Text.of(msg));
             }
-        } catch (Exception ex) {
-            LOGGER.warn("[Map] error reading classpath map_config for {}: {}", id, ex.toString());
+            long modified = MapTemplateCache.lastModified(localMap);
+            MapTemplate template = loadLocal(localMap);
+            if (template == null) {
+                String msg = "Map load failed for " + templateId + ": found local map file at " + localMap + " but could not load it via MapTemplateSerializer: " + e.getMessage();
+                LOGGER.error(msg, e);
+                throw new GameOpenException(Text.of(msg));
+            }
+            LOGGER.info("[Map] loaded local map template {} from {}", templateId, localMap);
+            Map map = new Map(template);
+            MapTemplateCache.putLocal(templateId, map, generation, localMap, modified);
+            return map;
         }
+    }
 
-        // Fallback: look in project-local maps/map_config/<id>.json on disk (useful during development and when maps are stored outside datapacks)
-        try {
-            java.nio.file.Path localPath = java.nio.file.Paths.get("maps", "map_config", id.getPath() + ".json");
-            if (java.nio.file.Files.exists(localPath)) {
-                String json = java.nio.file.Files.readString(localPath);
-                String value = extractJsonField(json, "template");
-                if (value != null && !value.isEmpty()) {
-                    Identifier resolved = Identifier.of(value);
-                    LOGGER.info("[Map] local map_config {} resolved {} -> {}", localPath, id, resolved);
-                    return resolved;
-                } else {
-                    LOGGER.warn("[Map] local map_config {} missing template; using {}", localPath, id);
+    /**
+     * Read a template from a local file using the first static loader on MapTemplateSerializer that accepts it.
+     * The loader that works is remembered, so later local loads do not probe again.
+     * @param localMap path of the .nbt file
+     * @return the loaded template, or null if no loader could read it
+     */
+    private static MapTemplate loadLocal(Path localMap) {
+        LocalLoader loader = localLoader;
+        if (loader != null) {
+            try {
+                return loader.load(localMap);
+            } catch (Throwable t) {
+                LOGGER.warn("[Map] cached local loader failed for {}: {}", localMap, t.toString());
+                return null;
+            }
+        }
+        for (Method m : MapTemplateSerializer.class.getMethods()) {
+            if (!Modifier.isStatic(m.getModifiers())) continue;
+            if (!m.getReturnType().equals(MapTemplate.class)) continue;
+            LocalLoader candidate = LocalLoader.of(m);
+            if (candidate == null) continue;
+            try {
+                MapTemplate loaded = candidate.load(localMap);
+                if (loaded != null) {
+                    localLoader = candidate;
+                    LOGGER.debug("[Map] using {} to load local map templates", m);
+                    return loaded;
                 }
-            } else {
-                LOGGER.debug("[Map] no local map_config file at {}", localPath);
+            } catch (Throwable ignored) {
+                // try next candidate
             }
-        } catch (Exception ex) {
-            LOGGER.warn("[Map] error reading local map_config for {}: {}", id, ex.toString());
         }
-
-        return id;
+        return null;
     }
 
-
     /**
-     * Load map template and derive respawn metadata.
-     * @param server Minecraft server for resource access
-     * @param identifier namespaced id (e.g. {@code botc-mc:test})
-     * @return new Map instance
-     * @throws GameOpenException if template resource cannot be read
+     * Strategy for reading a template from a local file, resolved once from MapTemplateSerializer's static methods.
      */
-    public static Map load(MinecraftServer server, Identifier identifier) {
-        Identifier templateId = resolveTemplateId(identifier);
-        LOGGER.info("[Map] Loading template {} (from map id {})", templateId, identifier);
-        MapTemplate template;
-        try {
-            template = MapTemplateSerializer.loadFromResource(server, templateId);
-        } catch (IOException e) {
-            // First, attempt to load a local maps/<template>.nbt using reflection against MapTemplateSerializer
-            java.nio.file.Path localMap = java.nio.file.Paths.get("maps", templateId.getPath() + ".nbt");
-            if (java.nio.file.Files.exists(localMap)) {
-                try (java.io.InputStream in = java.nio.file.Files.newInputStream(localMap)) {
-                    // Use reflection to find a suitable static loader method returning MapTemplate
-                    Class<?> cls = Class.forName("xyz.nucleoid.map_templates.MapTemplateSerializer");
-                    MapTemplate loaded = null;
-                    for (java.lang.reflect.Method m : cls.getMethods()) {
-                        if (!java.lang.reflect.Modifier.isStatic(m.getModifiers())) continue;
-                        if (!m.getReturnType().equals(MapTemplate.class)) continue;
-                        Class<?>[] params = m.getParameterTypes();
-                        try {
-                            Object res = null;
-                            if (params.length == 1) {
-                                if (params[0].isAssignableFrom(java.io.InputStream.class)) {
-                                    res = m.invoke(null, in);
-                                } else if (params[0].isAssignableFrom(java.nio.file.Path.class)) {
-                                    res = m.invoke(null, localMap);
-                                } else if (params[0].isAssignableFrom(String.class)) {
-                                    res = m.invoke(null, localMap.toString());
-                                }
-                            }
-                            if (res instanceof MapTemplate mt) { loaded = mt; break; }
-                        } catch (Throwable ignored) {
-                            // try next candidate
-                        }
-                    }
-                    if (loaded != null) {
-                        template = loaded;
-                        LOGGER.info("[Map] loaded local map template {} from {}", templateId, localMap);
-                    } else {
-                        String msg = "Map load failed for " + templateId + ": found local map file at " + localMap + " but could not load it via MapTemplateSerializer: " + e.getMessage();
-                        LOGGER.error(msg, e);
-                        throw new GameOpenException(Text.of(msg));
+    @FunctionalInterface
+    private interface LocalLoader {
+        MapTemplate load(Path path) throws Exception;
+
+        /**
+         * Adapt a static loader method taking an input stream, a path or a path string.
+         * @param m candidate method returning MapTemplate
+         * @return the loader, or null if the method does not take a supported parameter
+         */
+        static LocalLoader of(Method m) {
+            Class<?>[] params = m.getParameterTypes();
+            if (params.length != 1) return null;
+            if (params[0].isAssignableFrom(InputStream.class)) {
+                return path -> {
+                    try (InputStream in = Files.newInputStream(path)) {
+                        return (MapTemplate) m.invoke(null, in);
                     }
-                } catch (IOException ioEx) {
-                    String msg = "Map load failed for " + templateId + ": error reading local map file " + localMap + ": " + ioEx.getMessage();
-                    LOGGER.error(msg, ioEx);
-                    throw new GameOpenException(Text.of(msg));
-                } catch (ClassNotFoundException cnf) {
-                    String msg = "Map load failed for " + templateId + ": MapTemplateSerializer class not found when attempting local load";
-                    LOGGER.error(msg, cnf);
-                    throw new GameOpenException(Text.of(msg));
-                }
-            } else {
-                String msg = "Map load failed for " + templateId + ": " + e.getMessage();
-                LOGGER.error(msg, e);
-                throw new GameOpenException(Text.of(msg));
+                };
+            } else if (params[0].isAssignableFrom(Path.class)) {
+                return path -> (MapTemplate) m.invoke(null, path);
+            } else if (params[0].isAssignableFrom(String.class)) {
+                return path -> (MapTemplate) m.invoke(null, path.toString());
             }
+            return null;
         }
-        return new Map(template);
     }
 
     /**
@@ -220,6 +228,101 @@ public final class Map {
         return new TemplateChunkGenerator(server, this.template);
     }
 
+    /**
+     * Get the standing positions around the spawn region, computed once from the template and shared by every game
+     * on this map.
+     * Each column within 8 blocks of the spawn centre is scanned down from at most 96
+     * blocks above it for a block with a collision shape and two air blocks above. Only the highest such surfaces are
+     * kept, nearest the centre first.
+     * @return the blocks players can stand on, possibly empty
+     */
+    public List<BlockPos> getSpawnSurface() {
+        List<BlockPos> surface = this.spawnSurface;
+        if (surface == null) {
+            surface = scanSpawnSurface();
+            this.spawnSurface = surface;
+        }
+        return surface;
+    }
+
+    private List<BlockPos> scanSpawnSurface() {
+        BlockPos center = this.regions.spawn().centerBlock();
+        BlockBounds bounds = this.template.getBounds();
+        int bottom = bounds.min().getY();
+        int startY = Math.min(bounds.max().getY(), center.getY() + 96);
+        int bestY = Integer.MIN_VALUE;
+        List<BlockPos> best = new ArrayList<>();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int dx = -SPAWN_SEARCH_RADIUS; dx <= SPAWN_SEARCH_RADIUS; dx++) {
+            for (int dz = -SPAWN_SEARCH_RADIUS; dz <= SPAWN_SEARCH_RADIUS; dz++) {
+                pos.set(center.getX() + dx, startY, center.getZ() + dz);
+                if (!findSurface(pos, bottom)) continue;
+                if (pos.getY() > bestY) {
+                    bestY = pos.getY();
+                    best.clear();
+                }
+                if (pos.getY() == bestY) best.add(pos.toImmutable());
+            }
+        }
+        best.sort(Comparator.comparingDouble(p -> p.getSquaredDistance(center)));
+        LOGGER.debug("[Map] {} spawn positions at y={}", best.size(), bestY);
+        return List.copyOf(best);
+    }
+
+    /**
+     * Move a position down its column to the first block a player can stand on: one with a collision shape, which
+     * includes glass and stained glass, and two air blocks above.
+     * @param pos position to start from; left at the surface block if one is found
+     * @param bottom lowest Y to check
+     * @return true if a surface was found
+     */
+    private boolean findSurface(BlockPos.Mutable pos, int bottom) {
+        for (; pos.getY() >= bottom; pos.move(0, -1, 0)) {
+            BlockState state = this.template.getBlockState(pos);
+            if (state.isAir() || state.getCollisionShape(EmptyBlockView.INSTANCE, pos).isEmpty()) continue;
+            if (!this.template.getBlockState(pos.up()).isAir() || !this.template.getBlockState(pos.up(2)).isAir()) continue;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get evenly spaced seat positions on a circle around the town square, each facing its centre.
+     * Seat one is placed in the direction of the region's {@code yaw} from the centre and the rest follow clockwise.
+     * Positions are computed from the template once per seat count and shared by every game on this map.
+     * @param count number of seats
+     * @return seat positions in seat order, or an empty list if the map has no town square
+     */
+    public List<SeatPosition> getSeatPositions(int count) {
+        if (this.regions.townSquare() == null || count <= 0) return List.of();
+        return this.seatPositions.computeIfAbsent(count, this::layoutSeats);
+    }
+
+    private List<SeatPosition> layoutSeats(int count) {
+        TownSquare square = this.regions.townSquare();
+        BlockBounds bounds = square.bounds();
+        Vec3d center = bounds.center();
+        List<SeatPosition> positions = new ArrayList<>(count);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int i = 0; i < count; i++) {
+            float yaw = MathHelper.wrapDegrees(square.yaw() + 360.0f * i / count);
+            // Yaw points along (-sin, cos); seats sit out along it and face back towards the centre
+            double x = center.x - MathHelper.sin(yaw * MathHelper.RADIANS_PER_DEGREE) * square.radius();
+            double z = center.z + MathHelper.cos(yaw * MathHelper.RADIANS_PER_DEGREE) * square.radius();
+            pos.set(MathHelper.floor(x), bounds.max().getY(), MathHelper.floor(z));
+            double y = findSurface(pos, bounds.min().getY()) ? pos.getY() + 1.0 : bounds.min().getY();
+            positions.add(new SeatPosition(new Vec3d(x, y, z), MathHelper.wrapDegrees(yaw + 180.0f)));
+        }
+        LOGGER.debug("[Map] laid out {} seats around the town square", count);
+        return List.copyOf(positions);
+    }
+
+    /**
+     * Get the bounds of every block in the template.
+     * @return template bounds
+     */
+    public BlockBounds getBounds() { return this.template.getBounds(); }
+
     /**
      * Access respawn region set.
      * @return spawn + ordered checkpoints
@@ -255,9 +358,39 @@ public final class Map {
     }
 
     /**
-     * Region container grouping checkpoints and spawn.
+     * Town square region the seats are arranged around.
+     * @param bounds region bounds; the circle is centred on them
+     * @param yaw direction of seat one from the centre
+     * @param radius circle radius in blocks
+     */
+    public record TownSquare(BlockBounds bounds, float yaw, double radius) {
+        /**
+         * Convert template region metadata, defaulting the radius to fit inside the region.
+         * @param templateRegion source region
+         * @return converted town square
+         */
+        private static TownSquare of(TemplateRegion templateRegion) {
+            BlockBounds bounds = templateRegion.getBounds();
+            int width = Math.min(bounds.max().getX() - bounds.min().getX(), bounds.max().getZ() - bounds.min().getZ()) + 1;
+            double fit = Math.max(1.0, width / 2.0 - 1.0);
+            return new TownSquare(bounds,
+                    templateRegion.getData().getFloat("yaw", 0.0f),
+                    templateRegion.getData().getFloat("radius", (float) fit));
+        }
+    }
+
+    /**
+     * Position of a seat around the town square.
+     * @param pos standing position
+     * @param yaw facing yaw, towards the centre
+     */
+    public record SeatPosition(Vec3d pos, float yaw) {}
+
+    /**
+     * Region container grouping checkpoints, spawn and the town square.
      * @param checkpoints ordered respawn checkpoints
      * @param spawn primary spawn region
+     * @param townSquare region seats are arranged around, or null if the map has none
      */
-    public record Regions(List<RespawnRegion> checkpoints, RespawnRegion spawn) {}
+    public record Regions(List<RespawnRegion> checkpoints, RespawnRegion spawn, TownSquare townSquare) {}
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package golden.botc_mc.botc_mc.game.map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import golden.botc_mc.botc_mc.botc;
+import golden.botc_mc.botc_mc.game.voice.VoiceRegionService;
+import net.minecraft.resource.Resource;
+import net.minecraft.util.Identifier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Catalog of configured maps, read from {@code data/<ns>/map_config/<name>.json} in data packs and from the local
+ * {@code maps/map_config} directory.
+ * Data pack configs are read on resource reload; the local directory is read at the same time and re-read whenever
+ * a file in it changes. Lookups and command suggestions never touch the disk.
+ */
+public final class MapCatalog {
+    private static final Logger LOGGER = LogManager.getLogger("botc.MapCatalog");
+    /** Directory for map configs stored outside data packs. */
+    static final Path LOCAL_DIR = Paths.get("maps", "map_config");
+    private static final String CONFIG_DIR = "map_config";
+
+    private static volatile Map<String, Entry> datapackEntries = Map.of();
+    private static volatile Map<String, Entry> localEntries = Map.of();
+    // Data pack entries, then local entries not shadowed by one, sorted by name
+    private static volatile Map<String, Entry> entries = Map.of();
+    private static volatile Set<Identifier> warmTemplates = Set.of();
+    private static WatchService watchService;
+
+    private MapCatalog() {}
+
+    /**
+     * A configured map.
+     * @param name The map name, the file name of its config without extension.
+     * @param templateId The map template to load.
+     * @param displayName The name to show players, or the map name if not configured.
+     * @param voiceMapId The map id voice regions are configured under, or the map's own id if not configured.
+     * @param local Whether the config came from the local directory rather than a data pack.
+     * @param warm Whether the map is kept warm: its template is pinned in {@link MapTemplateCache} and preloaded at
+     *             server start, and its game worlds generate their chunks before players arrive.
+     */
+    public record Entry(String name, Identifier templateId, String displayName, Identifier voiceMapId, boolean local,
+                        boolean warm) {
+        /**
+         * Get the path of the voice region config for this map.
+         * @return The path of the voice config json.
+         */
+        public Path voiceConfigPath() {
+            return VoiceRegionService.configPathForMap(this.voiceMapId);
+        }
+    }
+
+    /**
+     * Read map configs from data packs and the local directory. Safe to call off-thread; nothing is published.
+     * @param resources The {@code map_config/*.json} resources keyed by identifier.
+     * @return The data pack entries keyed by map name.
+     */
+    public static Map<String, Entry> readDatapackEntries(Map<Identifier, Resource> resources) {
+        Map<String, Entry> read = new TreeMap<>();
+        resources.forEach((id, resource) -> {
+            String name = nameOf(id.getPath());
+            try (Reader reader = resource.getReader()) {
+                Entry entry = parse(name, Identifier.of(id.getNamespace(), name), reader, false);
+                if (entry != null) {
+                    read.putIfAbsent(name, entry);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("[MapCatalog] error reading map_config {}: {}", id, e.toString());
+            }
+        });
+        return read;
+    }
+
+    /**
+     * Publish the data pack entries read during reload, and re-read the local directory.
+     * Starts watching the local directory if it exists.
+     * @param datapack The data pack entries from {@link #readDatapackEntries(Map)}.
+     */
+    public static void publish(Map<String, Entry> datapack) {
+        datapackEntries = Map.copyOf(datapack);
+        localEntries = readLocalEntries();
+        rebuild();
+        startWatching();
+        LOGGER.info("[MapCatalog] {} maps configured ({} local)", entries.size(), localEntries.size());
+    }
+
+    /**
+     * Get a configured map by name.
+     * @param name The map name, or a namespaced map id whose path is the name.
+     * @return The entry, or null if no map is configured with that name.
+     */
+    public static Entry get(String name) {
+        int colon = name.indexOf(':');
+        return entries.get(colon >= 0 ? name.substring(colon + 1) : name);
+    }
+
+    /**
+     * Get every configured map.
+     * @return Unmodifiable map of entries keyed by map name, sorted by name.
+     */
+    public static Map<String, Entry> all() {
+        return entries;
+    }
+
+    /**
+     * Resolve a logical map id to its template identifier.
+     * @param id The map id.
+     * @return The configured template, or the id itself if the map has no config.
+     */
+    public static Identifier resolveTemplateId(Identifier id) {
+        Entry entry = entries.get(id.getPath());
+        if (entry == null) {
+            LOGGER.debug("[MapCatalog] no map_config for {}; using it as the template", id);
+            return id;
+        }
+        return entry.templateId();
+    }
+
+    /**
+     * Check whether any configured map using a template is kept warm.
+     * @param templateId The template id.
+     * @return True if the template should be pinned and preloaded.
+     */
+    public static boolean isWarm(Identifier templateId) {
+        return warmTemplates.contains(templateId);
+    }
+
+    /**
+     * Stop watching the local directory. Called when the server stops.
+     */
+    public static synchronized void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.debug("[MapCatalog] error closing watcher: {}", e.toString());
+        }
+        watchService = null;
+    }
+
+    private static synchronized void startWatching() {
+        if (watchService != null || !Files.isDirectory(LOCAL_DIR)) {
+            return;
+        }
+        try {
+            WatchService service = LOCAL_DIR.getFileSystem().newWatchService();
+            LOCAL_DIR.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+            Thread thread = new Thread(() -> watch(service), "botc-map-config-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException e) {
+            LOGGER.warn("[MapCatalog] cannot watch {}: {}", LOCAL_DIR, e.toString());
+        }
+    }
+
+    private static void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                // Drain the burst of events an editor produces for one save before re-reading
+                key.pollEvents();
+                key.reset();
+                localEntries = readLocalEntries();
+                rebuild();
+                LOGGER.debug("[MapCatalog] local map configs changed, {} maps configured", entries.size());
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    private static Map<String, Entry> readLocalEntries() {
+        if (!Files.isDirectory(LOCAL_DIR)) {
+            return Map.of();
+        }
+        Map<String, Entry> read = new TreeMap<>();
+        try (Stream<Path> files = Files.list(LOCAL_DIR)) {
+            files.filter(path -> path.getFileName().toString().endsWith(".json")).forEach(path -> {
+                String name = nameOf(path.getFileName().toString());
+                try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    Entry entry = parse(name, Identifier.of(botc.ID, name), reader, true);
+                    if (entry != null) {
+                        read.put(name, entry);
+                    }
+                } catch (Exception e) {
+                    LOGGER.warn("[MapCatalog] error reading local map_config {}: {}", path, e.toString());
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warn("[MapCatalog] error listing {}: {}", LOCAL_DIR, e.toString());
+        }
+        return read;
+    }
+
+    private static synchronized void rebuild() {
+        Map<String, Entry> merged = new TreeMap<>(localEntries);
+        merged.putAll(datapackEntries);
+        entries = Collections.unmodifiableMap(merged);
+        Set<Identifier> warm = new HashSet<>();
+        for (Entry entry : merged.values()) {
+            if (entry.warm()) {
+                warm.add(entry.templateId());
+            }
+        }
+        warmTemplates = Set.copyOf(warm);
+    }
+
+    private static Entry parse(String name, Identifier mapId, Reader reader, boolean local) {
+        JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+        String template = getString(json, "template");
+        if (template == null || template.isEmpty()) {
+            LOGGER.warn("[MapCatalog] map_config {} missing template; using {}", name, mapId);
+            template = mapId.toString();
+        }
+        String displayName = getString(json, "name");
+        String voice = getString(json, "voice");
+        JsonElement warm = json.get("warm");
+        return new Entry(name, Identifier.of(template), displayName != null ? displayName : name,
+                voice != null ? Identifier.of(voice) : mapId, local,
+                warm != null && warm.isJsonPrimitive() && warm.getAsBoolean());
+    }
+
+    private static String getString(JsonObject json, String field) {
+        JsonElement element = json.get(field);
+        return element != null && element.isJsonPrimitive() ? element.getAsString().trim() : null;
+    }
+
+    private static String nameOf(String path) {
+        String file = path.substring(path.lastIndexOf('/') + 1);
+        return file.endsWith(".json") ? file.substring(0, file.length() - ".json".length()) : file;
+    }
+}
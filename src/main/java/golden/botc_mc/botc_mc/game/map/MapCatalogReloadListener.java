@@ -0,0 +1,35 @@
+package golden.botc_mc.botc_mc.game.map;
+
+import golden.botc_mc.botc_mc.botc;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Reloads the {@link MapCatalog} from the map configs in data packs.
+ * Configs are read on the prepare executor; the apply stage publishes them, re-reads the local directory and drops
+ * cached templates, which may have changed with the data packs.
+ */
+public class MapCatalogReloadListener implements IdentifiableResourceReloadListener {
+
+    @Override
+    public Identifier getFabricId() {
+        return Identifier.of(botc.ID, "map_catalog_loader");
+    }
+
+    @Override
+    public CompletableFuture<Void> reload(Synchronizer synchronizer, ResourceManager manager,
+                                          Executor prepareExecutor, Executor applyExecutor) {
+        return CompletableFuture.supplyAsync(() -> MapCatalog.readDatapackEntries(
+                        manager.findResources("map_config", path -> path.getPath().endsWith(".json"))),
+                        prepareExecutor)
+                .thenCompose(synchronizer::whenPrepared)
+                .thenAcceptAsync(entries -> {
+                    MapCatalog.publish(entries);
+                    MapTemplateCache.invalidate();
+                }, applyExecutor);
+    }
+}
@@ -0,0 +1,262 @@
+package golden.botc_mc.botc_mc.game.map;
+
+import golden.botc_mc.botc_mc.game.botcSettings;
+import golden.botc_mc.botc_mc.game.botcSettingsManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import xyz.nucleoid.map_templates.BlockBounds;
+import xyz.nucleoid.plasmid.api.game.GameOpenException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of loaded maps, shared by every game.
+ * A loaded {@link Map} is never modified, so games opening the same template share one parsed template and its
+ * regions. Entries are keyed by template id and dropped when resources reload, or for templates read from the local
+ * {@code maps} directory, when the file changes. Templates of warm maps (see {@link MapCatalog.Entry#warm()}) are
+ * pinned and do not count towards the limit.
+ */
+public final class MapTemplateCache {
+    private static final Logger LOGGER = LogManager.getLogger("botc.MapTemplateCache");
+    /** Maximum number of unpinned templates kept. Templates hold every block of the map, so this stays small. */
+    static final int MAX_ENTRIES = 4;
+    private static final long NOT_LOCAL = -1L;
+    /**
+     * Rough size of one 16x16x16 section of a template: 4096 block states packed at 4 bits each, plus the palette.
+     */
+    private static final long APPROX_SECTION_BYTES = 2048 + 256;
+
+    // Bumped on every resource reload; entries from an older generation are stale
+    private static final AtomicLong generation = new AtomicLong();
+    // Access ordered, so iteration starts at the least recently used entry
+    private static final LinkedHashMap<Identifier, Entry> entries = new LinkedHashMap<>(MAX_ENTRIES * 2, 0.75f, true);
+
+    private MapTemplateCache() {}
+
+    /**
+     * A cached map.
+     * @param map The loaded map.
+     * @param generation The resource generation it was loaded in.
+     * @param localFile The local file it was read from, or null if it came from resources.
+     * @param modified The modification time of the local file when read, or -1 if it came from resources.
+     * @param pinned Whether the entry is exempt from eviction.
+     */
+    private record Entry(Map map, long generation, Path localFile, long modified, boolean pinned) {}
+
+    /**
+     * Memory use of a cached template.
+     * @param templateId The template id.
+     * @param sections The number of 16x16x16 sections covered by the template bounds.
+     * @param approxBytes The estimated memory held by the template's blocks.
+     * @param pinned Whether the template is pinned as a warm map.
+     */
+    public record Usage(Identifier templateId, long sections, long approxBytes, boolean pinned) {}
+
+    /**
+     * Get the current resource generation. Capture it before reading a template so a reload during the read
+     * marks the result stale.
+     * @return The current generation.
+     */
+    static long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Get a cached map if it is still current.
+     * @param templateId The template id.
+     * @return The cached map, or null if absent or stale.
+     */
+    static Map get(Identifier templateId) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(templateId);
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation() != generation.get()
+                || (entry.localFile() != null && lastModified(entry.localFile()) != entry.modified())) {
+            synchronized (entries) {
+                entries.remove(templateId, entry);
+            }
+            LOGGER.debug("[MapTemplateCache] {} is stale", templateId);
+            return null;
+        }
+        return entry.map();
+    }
+
+    /**
+     * Cache a map loaded from resources.
+     * @param templateId The template id.
+     * @param map The loaded map.
+     * @param generation The generation captured before loading.
+     */
+    static void put(Identifier templateId, Map map, long generation) {
+        put(templateId, new Entry(map, generation, null, NOT_LOCAL, MapCatalog.isWarm(templateId)));
+    }
+
+    /**
+     * Cache a map loaded from a local file.
+     * @param templateId The template id.
+     * @param map The loaded map.
+     * @param generation The generation captured before loading.
+     * @param localFile The file the template was read from.
+     * @param modified The modification time of the file captured before reading it.
+     */
+    static void putLocal(Identifier templateId, Map map, long generation, Path localFile, long modified) {
+        put(templateId, new Entry(map, generation, localFile, modified, MapCatalog.isWarm(templateId)));
+    }
+
+    private static void put(Identifier templateId, Entry entry) {
+        synchronized (entries) {
+            entries.put(templateId, entry);
+            int unpinned = 0;
+            for (Entry e : entries.values()) {
+                if (!e.pinned()) unpinned++;
+            }
+            Iterator<Entry> it = entries.values().iterator();
+            while (unpinned > MAX_ENTRIES && it.hasNext()) {
+                if (!it.next().pinned()) {
+                    it.remove();
+                    unpinned--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Report the estimated memory held by each cached template, most recently used last.
+     * @return The usage of each cached template.
+     */
+    public static List<Usage> usage() {
+        List<java.util.Map.Entry<Identifier, Entry>> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries.entrySet());
+        }
+        List<Usage> usage = new ArrayList<>(snapshot.size());
+        for (java.util.Map.Entry<Identifier, Entry> cached : snapshot) {
+            BlockBounds bounds = cached.getValue().map().getBounds();
+            long sections = sectionSpan(bounds.min().getX(), bounds.max().getX())
+                    * sectionSpan(bounds.min().getY(), bounds.max().getY())
+                    * sectionSpan(bounds.min().getZ(), bounds.max().getZ());
+            usage.add(new Usage(cached.getKey(), sections, sections * APPROX_SECTION_BYTES,
+                    cached.getValue().pinned()));
+        }
+        return usage;
+    }
+
+    private static long sectionSpan(int min, int max) {
+        return (max >> 4) - (min >> 4) + 1;
+    }
+
+    /**
+     * Mark every cached map stale. Called when resources reload.
+     */
+    public static void invalidate() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Drop every cached map. Called when the server stops.
+     */
+    public static void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Load maps into the cache in the background. Warm maps are always loaded; if the {@code preloadMaps} setting is
+     * enabled, the selected map and other configured maps are loaded too, until the cache is full.
+     * @param server The server to load templates from.
+     */
+    public static void preload(MinecraftServer server) {
+        Set<Identifier> templateIds = warmTemplateIds();
+        botcSettings settings = botcSettingsManager.get();
+        if (settings.preloadMaps) {
+            int warm = templateIds.size();
+            Identifier selected = Identifier.tryParse(settings.mapId);
+            if (selected != null) {
+                templateIds.add(MapCatalog.resolveTemplateId(selected));
+            }
+            for (MapCatalog.Entry entry : MapCatalog.all().values()) {
+                if (templateIds.size() - warm >= MAX_ENTRIES) {
+                    break;
+                }
+                templateIds.add(entry.templateId());
+            }
+        }
+        load(server, templateIds);
+    }
+
+    /**
+     * Reload the warm maps in the background after {@link #invalidate()} has dropped them, so a resource reload does
+     * not leave them cold. Called once the reloaded resources are in use, so templates are read from the new packs.
+     * @param server The server to load templates from.
+     */
+    public static void preloadWarm(MinecraftServer server) {
+        load(server, warmTemplateIds());
+    }
+
+    private static Set<Identifier> warmTemplateIds() {
+        Set<Identifier> templateIds = new LinkedHashSet<>();
+        for (MapCatalog.Entry entry : MapCatalog.all().values()) {
+            if (entry.warm()) {
+                templateIds.add(entry.templateId());
+            }
+        }
+        return templateIds;
+    }
+
+    private static void load(MinecraftServer server, Set<Identifier> templateIds) {
+        if (templateIds.isEmpty()) {
+            return;
+        }
+        List<Identifier> toLoad = new ArrayList<>(templateIds);
+        CompletableFuture.runAsync(() -> {
+            for (Identifier templateId : toLoad) {
+                try {
+                    Map.loadTemplate(server, templateId);
+                } catch (GameOpenException e) {
+                    LOGGER.warn("[MapTemplateCache] could not preload {}", templateId);
+                }
+            }
+            long bytes = 0;
+            for (Usage usage : usage()) {
+                bytes += usage.approxBytes();
+            }
+            LOGGER.info("[MapTemplateCache] preloaded {} map templates, about {} KiB cached", toLoad.size(),
+                    bytes / 1024);
+        }, Util.getMainWorkerExecutor());
+    }
+
+
+    /**
+     * Get the modification time of a file.
+     * @param file The file.
+     * @return The modification time in milliseconds, or -1 if it cannot be read.
+     */
+    static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return NOT_LOCAL;
+        }
+    }
+}
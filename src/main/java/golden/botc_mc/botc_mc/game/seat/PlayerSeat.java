@@ -7,6 +7,8 @@ import net.minecraft.util.Formatting;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public class PlayerSeat extends Seat {
 
@@ -15,9 +17,28 @@ public class PlayerSeat extends Seat {
 
     final List<botcCharacter.ReminderToken> reminders = new ArrayList<>();
 
+    // Notified of each reminder added to or removed from this seat. Set by the seat manager that owns the seat.
+    private ReminderListener reminderListener = null;
+
+    /**
+     * Listener for the reminders on a seat, such as the game's reminder index.
+     */
+    public interface ReminderListener {
+        void onReminderAdded(PlayerSeat seat, botcCharacter.ReminderToken token);
+
+        void onReminderRemoved(PlayerSeat seat, botcCharacter.ReminderToken token);
+    }
+
+    /**
+     * Sets the listener notified of each reminder added to or removed from this seat.
+     * @param reminderListener The listener to notify, replacing any previous listener, or null for none.
+     */
+    public void setReminderListener(ReminderListener reminderListener) {
+        this.reminderListener = reminderListener;
+    }
+
     @Override
-    public void setCharacter(botcCharacter character) throws IllegalArgumentException {
-        super.setCharacter(character);
+    protected void onCharacterSet(botcCharacter character) {
         if (character.team() == null) {
             this.alignment = Team.Alignment.NEUTRAL;
             return;
@@ -58,6 +79,7 @@ public class PlayerSeat extends Seat {
      */
     public void restoreGhostVote() {
         this.ghostVotes = 1;
+        markChanged();
     }
 
     /**
@@ -66,6 +88,7 @@ public class PlayerSeat extends Seat {
     public void removeGhostVote() {
         if (this.ghostVotes > 0) {
             this.ghostVotes--;
+            markChanged();
         }
     }
 
@@ -94,6 +117,7 @@ public class PlayerSeat extends Seat {
                 default -> this.alignment;
             };
         };
+        markChanged();
         return this.alignment;
     }
 
@@ -114,34 +138,99 @@ public class PlayerSeat extends Seat {
             throw new InvalidAlignmentException("Cannot set player seat alignment to NEUTRAL for non-Traveller botcCharacters");
         }
         this.alignment = alignment;
+        markChanged();
         return this.alignment;
     }
 
-    /**
-     * Clears the botcCharacter and alignment assigned to this seat, setting it to botcCharacter.EMPTY.
-     */
-    public void clearCharacter() {
-        super.clearCharacter();
-        this.alignment = Team.Alignment.NEUTRAL;
-    }
-
     public void addReminderToken(String reminder) {
-        this.reminders.add(new botcCharacter.ReminderToken(botcCharacter.EMPTY, reminder, false));
+        addReminderToken(new botcCharacter.ReminderToken(botcCharacter.EMPTY, reminder, false));
     }
 
     public void addReminderToken(botcCharacter.ReminderToken token) {
         this.reminders.add(token);
+        if (this.reminderListener != null) this.reminderListener.onReminderAdded(this, token);
+        markChanged();
     }
 
     public botcCharacter.ReminderToken removeReminder(int index) {
         if (index >= 0 && index < this.reminders.size()) {
-            return this.reminders.remove(index);
+            botcCharacter.ReminderToken removed = this.reminders.remove(index);
+            if (this.reminderListener != null) this.reminderListener.onReminderRemoved(this, removed);
+            markChanged();
+            return removed;
         }
         return null;
     }
 
+    /**
+     * Removes every reminder matching a filter as one change.
+     * @param filter The reminders to remove.
+     * @return The removed reminders, in order.
+     */
+    public List<botcCharacter.ReminderToken> removeReminders(Predicate<botcCharacter.ReminderToken> filter) {
+        List<botcCharacter.ReminderToken> removed = new ArrayList<>();
+        this.reminders.removeIf(token -> filter.test(token) && removed.add(token));
+        if (removed.isEmpty()) {
+            return removed;
+        }
+        if (this.reminderListener != null) {
+            for (botcCharacter.ReminderToken token : removed) this.reminderListener.onReminderRemoved(this, token);
+        }
+        markChanged();
+        return removed;
+    }
+
+    /**
+     * Replaces reminders in place as one change, keeping their order.
+     * @param replacer Returns the replacement for each reminder, or the same reminder to keep it.
+     * @return True if any reminder was replaced.
+     */
+    public boolean replaceReminders(UnaryOperator<botcCharacter.ReminderToken> replacer) {
+        boolean changed = false;
+        for (int i = 0; i < this.reminders.size(); i++) {
+            botcCharacter.ReminderToken token = this.reminders.get(i);
+            botcCharacter.ReminderToken replacement = replacer.apply(token);
+            if (replacement == token) {
+                continue;
+            }
+            this.reminders.set(i, replacement);
+            if (this.reminderListener != null) {
+                this.reminderListener.onReminderRemoved(this, token);
+                this.reminderListener.onReminderAdded(this, replacement);
+            }
+            changed = true;
+        }
+        if (changed) {
+            markChanged();
+        }
+        return changed;
+    }
+
+    /**
+     * Sets how long a reminder stays on this seat.
+     * @param index The index of the reminder.
+     * @param lifetime The new lifetime.
+     * @return The updated reminder, or null if the index is out of range.
+     */
+    public botcCharacter.ReminderToken setReminderLifetime(int index, botcCharacter.ReminderToken.Lifetime lifetime) {
+        if (index < 0 || index >= this.reminders.size()) {
+            return null;
+        }
+        botcCharacter.ReminderToken token = this.reminders.get(index);
+        botcCharacter.ReminderToken replacement = token.withLifetime(lifetime);
+        if (replacement != token) {
+            this.reminders.set(index, replacement);
+            if (this.reminderListener != null) {
+                this.reminderListener.onReminderRemoved(this, token);
+                this.reminderListener.onReminderAdded(this, replacement);
+            }
+            markChanged();
+        }
+        return replacement;
+    }
+
     public void clearReminders() {
-        this.reminders.clear();
+        removeReminders(token -> true);
     }
 
     public List<botcCharacter.ReminderToken> getReminders() {
@@ -3,14 +3,13 @@ package golden.botc_mc.botc_mc.game.seat;
 import golden.botc_mc.botc_mc.game.botcCharacter;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
-import net.minecraft.scoreboard.ServerScoreboard;
-import net.minecraft.scoreboard.Team;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
+import java.util.function.Consumer;
+
 public abstract class Seat {
 
     // character. Storyteller seats usually have botcCharacter.EMPTY, but can be assigned other character if desired.
@@ -20,30 +19,37 @@ public abstract class Seat {
     // Alive status. Not particularly meaningful for storyteller seats.
     boolean alive = true;
 
-    private static final String SCOREBOARD_TEAM = "botc-mc:game";
+    // Notified after any change to this seat. Set by the seat manager that owns the seat.
+    private Consumer<Seat> changeListener = seat -> {};
+
+    /**
+     * Sets the listener notified after any change to this seat.
+     * @param changeListener The listener to notify, replacing any previous listener.
+     */
+    public void setChangeListener(Consumer<Seat> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Notifies the change listener that this seat has changed.
+     */
+    protected void markChanged() {
+        this.changeListener.accept(this);
+    }
 
     /**
      * Sets the player entity associated with this seat.
      * @param playerEntity The ServerPlayerEntity to associate with this seat.
      */
     public void setPlayerEntity(ServerPlayerEntity playerEntity) {
+        // Team membership follows seats through the game's GameTeam
         this.playerEntity = playerEntity;
 
-        // Add player to the "botc-mc:game" team on the server scoreboard.
-        MinecraftServer server = playerEntity.getServer();
-        assert server != null;
-        ServerScoreboard serverScoreboard = server.getScoreboard();
-        // Create the team if it doesn't exist
-        Team team = serverScoreboard.getTeam(SCOREBOARD_TEAM);
-        if (team == null) {
-            team = serverScoreboard.addTeam(SCOREBOARD_TEAM);
-        }
-        serverScoreboard.addScoreHolderToTeam(this.playerEntity.getGameProfile().getName(), team);
-
         // If the seat is not alive, make the player invisible
         if (!this.isAlive()) {
             this.playerEntity.addStatusEffect(new StatusEffectInstance(StatusEffects.INVISIBILITY, -1));
         }
+        markChanged();
     }
 
     /**
@@ -62,18 +68,11 @@ public abstract class Seat {
         if (!hasPlayerEntity()) {
             return;
         }
-        // Remove the player from the "botc-mc:game" team
-        MinecraftServer server = this.playerEntity.getServer();
-        assert server != null;
-        ServerScoreboard serverScoreboard = server.getScoreboard();
-        Team team = serverScoreboard.getTeam(SCOREBOARD_TEAM);
-        if (team != null) {
-            serverScoreboard.removeScoreHolderFromTeam(this.playerEntity.getGameProfile().getName(), team);
-        }
         // Clear their invisibility effect if they were invisible
         this.playerEntity.removeStatusEffect(StatusEffects.INVISIBILITY);
 
         this.playerEntity = null;
+        markChanged();
     }
 
     /**
@@ -93,14 +92,12 @@ public abstract class Seat {
      * @throws IllegalArgumentException if the character is an NPC character (non-NPC characters and EMPTY are allowed).
      */
     public void setCharacter(botcCharacter character) throws IllegalArgumentException {
-        if (character == botcCharacter.EMPTY) {
-            this.character = botcCharacter.EMPTY;
-            return;
-        }
-        if (character.isNPC()) {
+        if (character != botcCharacter.EMPTY && character.isNPC()) {
             throw new IllegalArgumentException("Cannot assign NPC character to seat");
         }
         this.character = character;
+        onCharacterSet(character);
+        markChanged();
     }
 
     /**
@@ -108,6 +105,16 @@ public abstract class Seat {
      */
     public void clearCharacter() {
         this.character = botcCharacter.EMPTY;
+        onCharacterSet(botcCharacter.EMPTY);
+        markChanged();
+    }
+
+    /**
+     * Called after the character is set or cleared, before listeners are notified.
+     * Subclasses can update state that depends on the character.
+     * @param character The new character, or Character.EMPTY if cleared.
+     */
+    protected void onCharacterSet(botcCharacter character) {
     }
 
     /**
@@ -139,6 +146,7 @@ public abstract class Seat {
         if (this.hasPlayerEntity()) {
             this.playerEntity.addStatusEffect(new StatusEffectInstance(StatusEffects.INVISIBILITY, -1));
         }
+        markChanged();
         return true;
     }
 
@@ -155,6 +163,7 @@ public abstract class Seat {
         if (this.hasPlayerEntity()) {
             this.playerEntity.removeStatusEffect(StatusEffects.INVISIBILITY);
         }
+        markChanged();
         return true;
     }
 
@@ -4,6 +4,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.UUID;
 import java.util.Set;
 import java.util.HashSet;
@@ -11,6 +12,7 @@ import java.util.Collections;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.server.network.ServerPlayerEntity;
 import golden.botc_mc.botc_mc.botc;
+import golden.botc_mc.botc_mc.game.PlayerSessions;
 
 /** Simple Voice Chat reflection bridge. Locates classes and methods at runtime and exposes helpers for group creation, joining, leaving, password clearing, and presence checks. All operations are best-effort; failures return null/false without throwing. */
 public final class SvcBridge {
@@ -46,11 +48,38 @@ public final class SvcBridge {
     private static Method groupSetOpen; // potential setter for open
     private static Field groupNameField; // reintroduced for naming groups reflectively
 
-    private static final Map<String, UUID> aliasGroups = new HashMap<>();
+    private static final int MAX_GROUP_NAMES = 256; // bound on the name caches below
+    private static final Map<String, UUID> aliasGroups = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, UUID> eldest) {
+            return size() > MAX_GROUP_NAMES;
+        }
+    };
     private static boolean groupCreationUnavailable = false;
     // removed unused groupCreationWarned
     private static final Set<String> failedCreationNames = new HashSet<>(); // names for which creation already failed
 
+    static {
+        // Group names are per map, so both caches are dropped once no game is left using them
+        PlayerSessions.register(new PlayerSessions.Store() {
+            @Override
+            public String name() { return "voice.group_names"; }
+            @Override
+            public int size() { return aliasGroups.size() + failedCreationNames.size(); }
+            @Override
+            public void evict(UUID player) {}
+            @Override
+            public void onGameClosed() {
+                // Other games may still be running and using their groups
+                if (!botc.getActiveGames().isEmpty()) {
+                    return;
+                }
+                aliasGroups.clear();
+                failedCreationNames.clear();
+            }
+        });
+    }
+
     private static void diag(String msg) {
         // Lower verbosity: use debug unless first attempt or important
         if (!permanentlyMissing) {
@@ -503,6 +532,7 @@ public final class SvcBridge {
                 } catch (Throwable ignored) {}
             }
         } catch (Throwable t) { diag("SvcBridge: constructor fallback failed: " + t); }
+        if (failedCreationNames.size() >= MAX_GROUP_NAMES) failedCreationNames.clear();
         failedCreationNames.add(desiredName);
         markGroupCreationUnavailable();
         return null;
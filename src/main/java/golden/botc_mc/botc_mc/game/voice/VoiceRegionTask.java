@@ -1,11 +1,11 @@
 package golden.botc_mc.botc_mc.game.voice;
 
 import golden.botc_mc.botc_mc.botc;
+import golden.botc_mc.botc_mc.game.PlayerSessions;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.text.Text;
 
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,22 +35,23 @@ public class VoiceRegionTask implements Runnable {
     private final VoiceRegionManager manager; // fallback manager if no active manager is set
 
     // current tracked region names for players (keyed by player UUID)
-    private final Map<UUID, String> current = new HashMap<>();
+    private final Map<UUID, String> current = PlayerSessions.newMap("voice.current", MAX_TRACKED_PLAYERS);
     // pending leave attempts map (player -> attempts)
-    private final Map<UUID, Integer> pendingCleanup = new HashMap<>();
+    private final Map<UUID, Integer> pendingCleanup = PlayerSessions.newMap("voice.pending_cleanup", MAX_TRACKED_PLAYERS);
     // join retry counts (player -> attempts)
-    private final Map<UUID, Integer> joinRetries = new HashMap<>();
+    private final Map<UUID, Integer> joinRetries = PlayerSessions.newMap("voice.join_retries", MAX_TRACKED_PLAYERS);
     // last action timestamp per player (ms) used for cooldown
-    private final Map<UUID, Long> lastActionMs = new HashMap<>();
+    private final Map<UUID, Long> lastActionMs = PlayerSessions.newMap("voice.last_action", MAX_TRACKED_PLAYERS);
 
+    private static final int MAX_TRACKED_PLAYERS = 512; // bound on each per-player map; disconnects are evicted
     private static final int MAX_PENDING_ATTEMPTS = 6; // abandon leave after this many failed tries
     private static final int MAX_JOIN_ATTEMPTS = 4; // abandon join after this many failed tries
     private static final long ACTION_COOLDOWN_MS = 300; // per-player cooldown between actions
     private static final long REGION_STABLE_MS = 500; // require region to be stable for this duration
 
     // temporary detection buffers used to implement stability windows
-    private final Map<UUID, String> lastDetectedRegion = new HashMap<>();
-    private final Map<UUID, Long> lastDetectedRegionMs = new HashMap<>();
+    private final Map<UUID, String> lastDetectedRegion = PlayerSessions.newMap("voice.last_detected", MAX_TRACKED_PLAYERS);
+    private final Map<UUID, Long> lastDetectedRegionMs = PlayerSessions.newMap("voice.last_detected_at", MAX_TRACKED_PLAYERS);
 
     // runtime flags
     private static final boolean DEBUG_TASK = false; // verbose logging